@@ -0,0 +1,66 @@
+package com.jeonjueats.cache;
+
+import com.jeonjueats.repository.CatalogVersionView;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 카탈로그(가게/메뉴) 응답 버전
+ * 응답에 포함된 항목의 최근 수정 시각과 항목 수로 구성되며, 조건부 GET(ETag)에 사용
+ * - 수정/추가: 수정 시각(updatedAt)이 커지므로 버전이 바뀜
+ * - 논리적 삭제: 삭제 시 updated_at이 갱신되지만 삭제된 행은 집계에서 빠지므로, 남은 항목의 최근 수정 시각은
+ *   그대로이거나 (가장 최근 항목이 삭제되면) 오히려 과거로 돌아가고, 항목 수만 줄어듦
+ *   → 수정 시각만으로는 삭제를 알 수 없으므로 Last-Modified로는 사용하지 않음
+ * 수정 시각은 DB 저장 정밀도(마이크로초)에 맞춰 비교
+ *
+ * @param lastModified 최근 수정 시각 (항목이 없으면 null)
+ * @param count 항목 수
+ */
+public record CatalogVersion(LocalDateTime lastModified, long count) {
+
+    public CatalogVersion {
+        if (lastModified != null) {
+            lastModified = lastModified.truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+
+    public static CatalogVersion of(CatalogVersionView view) {
+        return new CatalogVersion(view.getLastModified(), view.getCount() != null ? view.getCount() : 0L);
+    }
+
+    /**
+     * 다른 수정 시각을 반영한 버전 (둘 중 최근 값 사용)
+     */
+    public CatalogVersion withModified(LocalDateTime modified) {
+        if (modified == null) {
+            return this;
+        }
+        LocalDateTime truncated = modified.truncatedTo(ChronoUnit.MICROS);
+        if (lastModified != null && !truncated.isAfter(lastModified)) {
+            return this;
+        }
+        return new CatalogVersion(truncated, count);
+    }
+
+    /**
+     * 강한 ETag (따옴표 포함)
+     */
+    public String etag() {
+        return "\"" + Long.toHexString(lastModifiedMicros()) + "-" + Long.toHexString(count) + "\"";
+    }
+
+    /**
+     * 콘텐츠 인코딩별 강한 ETag (예: gzip 압축본은 "...-gzip")
+     */
+    public String etag(String contentCoding) {
+        return "\"" + Long.toHexString(lastModifiedMicros()) + "-" + Long.toHexString(count) + "-" + contentCoding + "\"";
+    }
+
+    private long lastModifiedMicros() {
+        if (lastModified == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModified);
+    }
+}
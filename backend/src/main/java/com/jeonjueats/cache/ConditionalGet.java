@@ -0,0 +1,76 @@
+package com.jeonjueats.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 조건부 GET(If-None-Match) 처리 헬퍼
+ * 응답 본문을 만들기 전에 카탈로그 버전만으로 304 응답 여부를 판단
+ * - ETag(수정 시각 + 항목 수)로만 판단
+ * - Last-Modified / If-Modified-Since는 사용하지 않음: 삭제된 가게/메뉴는 MAX(updated_at) 집계에서 빠지므로
+ *   삭제 후 수정 시각은 그대로이거나 과거로 돌아감 (삭제는 항목 수로만 드러남)
+ *   수정 시각만 비교하면 삭제된 가게/메뉴가 포함된 응답을 304로 계속 유지시킬 수 있음
+ * 응답에는 Cache-Control: no-cache를 지정하여 (Spring Security 기본값인 no-store 대신)
+ * 클라이언트가 응답을 보관하고 매번 재검증하도록 함
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 조건부 요청 헤더 포함 여부 (없으면 버전 조회를 생략할 수 있음)
+     */
+    public static boolean isConditional(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    /**
+     * 304로 응답할 수 있는지 확인
+     *
+     * @param etags 현재 버전의 ETag 후보 (콘텐츠 인코딩별 변형 포함, 첫 번째가 기본값)
+     * @return 요청 조건과 일치한 ETag (304 응답에 사용), 변경되었으면 null
+     */
+    public static String notModifiedEtag(HttpServletRequest request, String... etags) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return null; // If-Modified-Since만 있는 요청은 전체 응답
+        }
+        for (String requested : ifNoneMatch.split(",")) {
+            String tag = requested.trim();
+            if (tag.equals("*")) {
+                return etags[0];
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2); // If-None-Match는 약한 비교
+            }
+            for (String etag : etags) {
+                if (etag.equals(tag)) {
+                    return etag;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 304 Not Modified 응답
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build();
+    }
+
+    /**
+     * ETag 헤더를 포함한 200 OK 응답 빌더
+     */
+    public static ResponseEntity.BodyBuilder ok(String etag) {
+        return withValidators(ResponseEntity.ok(), etag);
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, String etag) {
+        return builder.eTag(etag).cacheControl(CacheControl.noCache());
+    }
+}
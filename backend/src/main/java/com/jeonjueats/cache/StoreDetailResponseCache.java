@@ -0,0 +1,242 @@
+package com.jeonjueats.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeonjueats.dto.MenuResponseDto;
+import com.jeonjueats.dto.StoreDetailResponseDto;
+import com.jeonjueats.search.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 가게 상세 응답 캐시
+ * 인기 가게의 상세 페이지(/api/stores/{storeId})는 같은 응답이 반복되므로 직렬화된 JSON 바이트를 그대로 보관
+ * - 캐시 적중 시 JPA 조회/DTO 변환/Jackson 직렬화 없이 바이트 배열을 바로 응답
+ * - 일정 크기 이상의 응답은 gzip 압축본도 함께 보관 (Accept-Encoding: gzip 요청에 사용)
+ * - 크기 제한: 저장된 바이트 합계가 최대치를 넘으면 가장 오래 사용되지 않은 가게부터 제거 (LRU)
+ * - 무효화: 사장님의 가게/메뉴 변경 커밋 후 해당 가게 항목 제거 (변경한 서버에서만)
+ * - 만료: 노드별 캐시이므로 다른 서버의 변경은 TTL이 지나면 반영 (만료된 항목은 조건부 GET 판단에도 쓰지 않음)
+ * - 버전: 무효화마다 버전을 올려, 조회 도중 무효화가 일어난 응답은 캐시에 저장하지 않음
+ * 적중률/제거 지표는 actuator metrics(store.detail.cache.*)로 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDetailResponseCache {
+
+    private static final String METRIC_PREFIX = "store.detail.cache";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 최대 크기 (JSON + gzip 바이트 합계)
+     */
+    @Value("${app.store-detail.response-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    /**
+     * gzip 압축본을 함께 보관할 최소 JSON 크기
+     */
+    @Value("${app.store-detail.response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    /**
+     * 항목 유지 시간 (다른 서버의 가게/메뉴 변경이 반영되기까지의 최대 지연)
+     */
+    @Value("${app.store-detail.response-cache.ttl:60s}")
+    private Duration ttl;
+
+    private final LinkedHashMap<Long, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private long version;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter sizeEvictionCounter;
+    private Counter invalidationCounter;
+    private Counter expirationCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "hit")
+                .description("가게 상세 응답 캐시 적중 수").register(meterRegistry);
+        missCounter = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "miss")
+                .description("가게 상세 응답 캐시 미적중 수").register(meterRegistry);
+        sizeEvictionCounter = Counter.builder(METRIC_PREFIX + ".evictions").tag("cause", "size")
+                .description("용량 초과로 제거된 항목 수").register(meterRegistry);
+        invalidationCounter = Counter.builder(METRIC_PREFIX + ".evictions").tag("cause", "invalidation")
+                .description("가게/메뉴 변경으로 제거된 항목 수").register(meterRegistry);
+        expirationCounter = Counter.builder(METRIC_PREFIX + ".evictions").tag("cause", "expired")
+                .description("TTL 경과로 제거된 항목 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, StoreDetailResponseCache::size)
+                .description("캐시된 가게 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, StoreDetailResponseCache::bytes)
+                .description("캐시된 응답 바이트 합계").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답 조회, 없으면 loader로 조회 후 직렬화하여 저장
+     * loader는 캐시 잠금 밖에서 실행되므로 같은 가게를 동시에 여러 번 조회할 수 있음 (결과는 동일)
+     *
+     * @param storeId 가게 ID
+     * @param loader 가게 상세 조회 (캐시 미적중 시에만 호출)
+     * @return 직렬화된 응답
+     */
+    public CachedResponse getOrLoad(Long storeId, Supplier<StoreDetailResponseDto> loader) {
+        long expectedVersion;
+        synchronized (this) {
+            CachedResponse cached = liveEntry(storeId);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+            missCounter.increment();
+            // 조회 도중 무효화가 일어나면 저장하지 않도록 조회 전 버전을 기록
+            expectedVersion = version;
+        }
+
+        CachedResponse loaded = serialize(loader.get());
+        put(storeId, loaded, expectedVersion);
+        return loaded;
+    }
+
+    /**
+     * 캐시된 응답의 버전 조회 (적중률 지표에 반영하지 않음)
+     * 조건부 GET에서 이 노드가 응답할 내용과 같은 기준으로 304 여부를 판단
+     *
+     * @return 캐시된 응답 버전 (없으면 null)
+     */
+    public synchronized CatalogVersion peekVersion(Long storeId) {
+        CachedResponse cached = liveEntry(storeId);
+        return cached != null ? cached.version() : null;
+    }
+
+    /**
+     * 가게 항목 무효화 (현재 트랜잭션 커밋 후 반영)
+     * 가게 정보, 메뉴 추가/수정/삭제/상태 변경 시 호출
+     *
+     * @param storeId 가게 ID
+     */
+    public void invalidate(Long storeId) {
+        AfterCommit.run(() -> evict(storeId));
+    }
+
+    /**
+     * 만료되지 않은 항목 조회 (만료된 항목은 제거)
+     */
+    private CachedResponse liveEntry(Long storeId) {
+        CachedResponse cached = entries.get(storeId);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() > ttl.toNanos()) {
+            entries.remove(storeId);
+            totalBytes -= cached.weight();
+            expirationCounter.increment();
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void put(Long storeId, CachedResponse response, long expectedVersion) {
+        if (expectedVersion != version) {
+            return;
+        }
+        CachedResponse previous = entries.put(storeId, response);
+        if (previous != null) {
+            totalBytes -= previous.weight();
+        }
+        totalBytes += response.weight();
+
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            CachedResponse evicted = eldest.next();
+            eldest.remove();
+            totalBytes -= evicted.weight();
+            sizeEvictionCounter.increment();
+        }
+    }
+
+    private synchronized void evict(Long storeId) {
+        version++;
+        CachedResponse removed = entries.remove(storeId);
+        if (removed != null) {
+            totalBytes -= removed.weight();
+            invalidationCounter.increment();
+            log.debug("가게 상세 응답 캐시 무효화 - 가게 ID: {}", storeId);
+        }
+    }
+
+    private CachedResponse serialize(StoreDetailResponseDto storeDetail) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(storeDetail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("가게 상세 응답 직렬화 실패 - 가게 ID: " + storeDetail.getStoreId(), e);
+        }
+        byte[] gzipped = json.length >= gzipMinBytes ? gzip(json) : null;
+        return new CachedResponse(json, gzipped, versionOf(storeDetail), System.nanoTime());
+    }
+
+    /**
+     * 응답 버전 (가게/메뉴 수정 시각 중 가장 최근 값 + 메뉴 수)
+     * StoreService.getStoreDetailVersion과 같은 기준으로 계산
+     */
+    private static CatalogVersion versionOf(StoreDetailResponseDto storeDetail) {
+        CatalogVersion version = new CatalogVersion(storeDetail.getUpdatedAt(), storeDetail.getMenus().size());
+        for (MenuResponseDto menu : storeDetail.getMenus()) {
+            version = version.withModified(menu.getUpdatedAt());
+        }
+        return version;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized long bytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 직렬화된 가게 상세 응답
+     *
+     * @param json JSON 바이트 (UTF-8)
+     * @param gzipped gzip 압축된 JSON 바이트 (작은 응답은 null)
+     * @param version 응답 버전 (ETag)
+     * @param loadedAtNanos 조회 시각 (System.nanoTime, 만료 판단용)
+     */
+    public record CachedResponse(byte[] json, byte[] gzipped, CatalogVersion version, long loadedAtNanos) {
+
+        public boolean hasGzip() {
+            return gzipped != null;
+        }
+
+        long weight() {
+            return json.length + (gzipped != null ? gzipped.length : 0L);
+        }
+    }
+}
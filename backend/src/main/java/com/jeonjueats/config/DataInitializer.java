@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
  * 초기 데이터 설정
  * 애플리케이션 시작 시 기본 카테고리, 사용자, 가게, 메뉴 데이터를 자동으로 생성
  * 데이터가 이미 존재하는 경우 중복 생성을 방지
+ * 한 트랜잭션에서 저장하므로 SnowflakeId로 미리 할당된 엔티티의 INSERT가 배치로 전송됨
  */
 @Slf4j
 @Component
@@ -27,6 +29,7 @@ public class DataInitializer implements CommandLineRunner {
     private final PasswordEncoder passwordEncoder;
 
     @Override
+    @Transactional
     public void run(String... args) throws Exception {
         log.info("초기 데이터 설정을 시작합니다...");
         
@@ -168,100 +171,100 @@ public class DataInitializer implements CommandLineRunner {
 
         // 치킨 가게들 (4개) - owner1(김사장) 4개
         createStore("맛있는 치킨집", "신선한 재료로 만드는 바삭한 치킨", "54321", "전북 전주시 완산구 효자동", null, "063-222-3333",
-                   "/api/images/chicken1.jpg", chickenCategory.getId(), 15000, 3000, "매일 10:00-22:00", StoreStatus.OPEN, owner1.getId());
+                   "/api/images/36/72/chicken1.jpg", chickenCategory.getId(), 15000, 3000, "매일 10:00-22:00", StoreStatus.OPEN, owner1.getId());
         
         createStore("황금올리브치킨", "황금빛 바삭함의 완성", "54322", "전북 전주시 덕진구 금암동", null, "063-333-4444",
-                   "/api/images/chicken2.jpg", chickenCategory.getId(), 16000, 2500, "매일 11:00-23:00", StoreStatus.OPEN, owner1.getId());
+                   "/api/images/9d/90/chicken2.jpg", chickenCategory.getId(), 16000, 2500, "매일 11:00-23:00", StoreStatus.OPEN, owner1.getId());
         
         createStore("BHC치킨 전주점", "뿌링클의 원조", "54323", "전북 전주시 완산구 중앙동", null, "063-444-5555",
-                   "/api/images/chicken3.jpg", chickenCategory.getId(), 18000, 3000, "매일 12:00-24:00", StoreStatus.OPEN, owner1.getId());
+                   "/api/images/4c/67/chicken3.jpg", chickenCategory.getId(), 18000, 3000, "매일 12:00-24:00", StoreStatus.OPEN, owner1.getId());
         
         createStore("굽네치킨", "오븐에 구운 건강한 치킨", "54324", "전북 전주시 덕진구 덕진동", null, "063-555-6666",
-                   "/api/images/chicken4.jpg", chickenCategory.getId(), 17000, 2000, "매일 11:00-23:00", StoreStatus.OPEN, owner1.getId());
+                   "/api/images/29/3d/chicken4.jpg", chickenCategory.getId(), 17000, 2000, "매일 11:00-23:00", StoreStatus.OPEN, owner1.getId());
 
         // 피자 가게들 (3개) - owner2(이사장) 3개
         createStore("전주 피자하우스", "수제 도우로 만드는 정통 이탈리안 피자", "54325", "전북 전주시 덕진구 금암동", null, "063-666-7777",
-                   "/api/images/pizza1.jpg", pizzaCategory.getId(), 20000, 2000, "매일 10:00-22:00", StoreStatus.OPEN, owner2.getId());
+                   "/api/images/68/b1/pizza1.jpg", pizzaCategory.getId(), 20000, 2000, "매일 10:00-22:00", StoreStatus.OPEN, owner2.getId());
         
         createStore("도미노피자", "30분 배달 약속", "54326", "전북 전주시 완산구 효자동", null, "063-777-8888",
-                   "/api/images/pizza2.jpg", pizzaCategory.getId(), 15000, 1500, "매일 10:30-23:00", StoreStatus.OPEN, owner2.getId());
+                   "/api/images/19/1b/pizza2.jpg", pizzaCategory.getId(), 15000, 1500, "매일 10:30-23:00", StoreStatus.OPEN, owner2.getId());
         
         createStore("피자스쿨", "학생들이 좋아하는 가성비 피자", "54327", "전북 전주시 덕진구 인후동", null, "063-888-9999",
-                   "/api/images/pizza3.jpg", pizzaCategory.getId(), 12000, 2000, "매일 11:00-24:00", StoreStatus.OPEN, owner2.getId());
+                   "/api/images/2d/e6/pizza3.jpg", pizzaCategory.getId(), 12000, 2000, "매일 11:00-24:00", StoreStatus.OPEN, owner2.getId());
 
         // 중식 가게들 (3개) - owner3(박사장) 3개
         createStore("용궁반점", "정통 중화요리 전문점", "54328", "전북 전주시 덕진구 인후동", null, "063-999-0000",
-                   "/api/images/chinese1.jpg", chineseCategory.getId(), 8000, 2500, "매일 10:00-21:00", StoreStatus.OPEN, owner3.getId());
+                   "/api/images/52/34/chinese1.jpg", chineseCategory.getId(), 8000, 2500, "매일 10:00-21:00", StoreStatus.OPEN, owner3.getId());
         
         createStore("차이나타운", "깔끔한 중식당", "54329", "전북 전주시 완산구 중앙동", null, "063-111-2222",
-                   "/api/images/chinese2.jpg", chineseCategory.getId(), 12000, 3000, "매일 11:00-21:30", StoreStatus.OPEN, owner3.getId());
+                   "/api/images/17/c6/chinese2.jpg", chineseCategory.getId(), 12000, 3000, "매일 11:00-21:30", StoreStatus.OPEN, owner3.getId());
         
         createStore("홍콩반점", "광동식 중화요리", "54330", "전북 전주시 덕진구 덕진동", null, "063-222-3333",
-                   "/api/images/chinese3.jpg", chineseCategory.getId(), 15000, 2500, "매일 11:30-22:00", StoreStatus.OPEN, owner3.getId());
+                   "/api/images/89/a4/chinese3.jpg", chineseCategory.getId(), 15000, 2500, "매일 11:30-22:00", StoreStatus.OPEN, owner3.getId());
 
         // 한식 가게들 (4개) - owner4(최사장) 4개
         createStore("엄마손 김치찌개", "집에서 먹는 것 같은 푸근한 한식", "54331", "전북 전주시 완산구 서신동", null, "063-333-4444",
-                   "/api/images/korean1.jpg", koreanCategory.getId(), 8000, 2000, "매일 06:00-22:00", StoreStatus.OPEN, owner4.getId());
+                   "/api/images/07/49/korean1.jpg", koreanCategory.getId(), 8000, 2000, "매일 06:00-22:00", StoreStatus.OPEN, owner4.getId());
         
         createStore("전주 비빔밥", "전주 대표 음식 비빔밥", "54332", "전북 전주시 완산구 풍남동", null, "063-444-5555",
-                   "/api/images/korean2.jpg", koreanCategory.getId(), 10000, 1500, "매일 08:00-20:00", StoreStatus.OPEN, owner4.getId());
+                   "/api/images/81/22/korean2.jpg", koreanCategory.getId(), 10000, 1500, "매일 08:00-20:00", StoreStatus.OPEN, owner4.getId());
         
         createStore("황제갈비", "최고급 한우갈비", "54333", "전북 전주시 덕진구 덕진동", null, "063-555-6666",
-                   "/api/images/korean3.jpg", koreanCategory.getId(), 35000, 5000, "매일 12:00-22:00", StoreStatus.OPEN, owner4.getId());
+                   "/api/images/52/5e/korean3.jpg", koreanCategory.getId(), 35000, 5000, "매일 12:00-22:00", StoreStatus.OPEN, owner4.getId());
         
         createStore("한정식집", "정갈한 한정식", "54334", "전북 전주시 완산구 중앙동", null, "063-666-7777",
-                   "/api/images/korean4.jpg", koreanCategory.getId(), 25000, 4000, "매일 11:00-21:00", StoreStatus.CLOSED, owner4.getId());
+                   "/api/images/61/95/korean4.jpg", koreanCategory.getId(), 25000, 4000, "매일 11:00-21:00", StoreStatus.CLOSED, owner4.getId());
 
         // 일식 가게들 (2개) - owner5(정사장) 2개
         createStore("스시장인", "신선한 일본 정통 스시", "54335", "전북 전주시 완산구 효자동", null, "063-777-8888",
-                   "/api/images/japanese1.jpg", japaneseCategory.getId(), 30000, 3000, "매일 11:30-21:30", StoreStatus.OPEN, owner5.getId());
+                   "/api/images/cb/e6/japanese1.jpg", japaneseCategory.getId(), 30000, 3000, "매일 11:30-21:30", StoreStatus.OPEN, owner5.getId());
         
         createStore("라멘하우스", "진한 돈코츠 라멘", "54336", "전북 전주시 덕진구 인후동", null, "063-888-9999",
-                   "/api/images/japanese2.jpg", japaneseCategory.getId(), 12000, 2500, "매일 11:00-22:00", StoreStatus.OPEN, owner5.getId());
+                   "/api/images/62/17/japanese2.jpg", japaneseCategory.getId(), 12000, 2500, "매일 11:00-22:00", StoreStatus.OPEN, owner5.getId());
 
         // 양식 가게들 (3개) - owner5(정사장) 3개 (총 5개)
         createStore("파스타 킹", "정통 이탈리안 파스타", "54337", "전북 전주시 완산구 중앙동", null, "063-999-0000",
-                   "/api/images/western1.jpg", westernCategory.getId(), 15000, 2000, "매일 11:00-21:00", StoreStatus.OPEN, owner5.getId());
+                   "/api/images/8d/4f/western1.jpg", westernCategory.getId(), 15000, 2000, "매일 11:00-21:00", StoreStatus.OPEN, owner5.getId());
         
         createStore("스테이크하우스", "프리미엄 스테이크 전문점", "54338", "전북 전주시 덕진구 금암동", null, "063-111-2222",
-                   "/api/images/western2.jpg", westernCategory.getId(), 40000, 4000, "매일 17:00-23:00", StoreStatus.OPEN, owner5.getId());
+                   "/api/images/95/f3/western2.jpg", westernCategory.getId(), 40000, 4000, "매일 17:00-23:00", StoreStatus.OPEN, owner5.getId());
         
         createStore("햄버거팩토리", "수제 패티 햄버거", "54339", "전북 전주시 완산구 삼천동", null, "063-222-3333",
-                   "/api/images/western3.jpg", westernCategory.getId(), 8000, 2000, "매일 10:00-22:00", StoreStatus.OPEN, owner5.getId());
+                   "/api/images/1d/d5/western3.jpg", westernCategory.getId(), 8000, 2000, "매일 10:00-22:00", StoreStatus.OPEN, owner5.getId());
 
         // 분식 가게들 (3개) - owner6(장사장) 3개
         createStore("떡볶이명가", "쫄깃한 떡볶이와 순대", "54340", "전북 전주시 완산구 서신동", null, "063-333-4444",
-                   "/api/images/snack1.jpg", snackCategory.getId(), 5000, 1000, "매일 10:00-22:00", StoreStatus.OPEN, owner6.getId());
+                   "/api/images/dd/6d/snack1.jpg", snackCategory.getId(), 5000, 1000, "매일 10:00-22:00", StoreStatus.OPEN, owner6.getId());
         
         createStore("김밥천국 전주점", "24시간 든든한 한끼", "54341", "전북 전주시 덕진구 덕진동", null, "063-444-5555",
-                   "/api/images/snack2.jpg", snackCategory.getId(), 3000, 1500, "24시간 운영", StoreStatus.OPEN, owner6.getId());
+                   "/api/images/d7/ba/snack2.jpg", snackCategory.getId(), 3000, 1500, "24시간 운영", StoreStatus.OPEN, owner6.getId());
         
         createStore("호떡집", "달콤한 전주 호떡", "54342", "전북 전주시 완산구 풍남동", null, "063-555-6666",
-                   "/api/images/snack3.jpg", snackCategory.getId(), 2000, 1000, "매일 10:00-21:00", StoreStatus.OPEN, owner6.getId());
+                   "/api/images/67/2a/snack3.jpg", snackCategory.getId(), 2000, 1000, "매일 10:00-21:00", StoreStatus.OPEN, owner6.getId());
 
         // 카페·디저트 (2개) - owner6(장사장) 2개 (총 5개)  
         createStore("스타벅스 전주효자점", "커피와 디저트의 완벽한 조화", "54343", "전북 전주시 완산구 효자동", null, "063-666-7777",
-                   "/api/images/cafe1.jpg", cafeCategory.getId(), 5000, 1000, "매일 06:00-22:00", StoreStatus.OPEN, owner6.getId());
+                   "/api/images/52/3e/cafe1.jpg", cafeCategory.getId(), 5000, 1000, "매일 06:00-22:00", StoreStatus.OPEN, owner6.getId());
         
         createStore("투썸플레이스", "달콤한 디저트와 커피", "54344", "전북 전주시 덕진구 금암동", null, "063-777-8888",
-                   "/api/images/cafe2.jpg", cafeCategory.getId(), 6000, 1500, "매일 07:00-23:00", StoreStatus.OPEN, owner6.getId());
+                   "/api/images/a9/d3/cafe2.jpg", cafeCategory.getId(), 6000, 1500, "매일 07:00-23:00", StoreStatus.OPEN, owner6.getId());
 
         // 족발·보쌈 (2개) - owner7(윤사장) 2개
         createStore("원조할머니족발", "50년 전통의 족발 맛", "54345", "전북 전주시 완산구 중앙동", null, "063-888-9999",
-                   "/api/images/jokbal1.jpg", jokbalCategory.getId(), 25000, 3000, "매일 15:00-24:00", StoreStatus.OPEN, owner7.getId());
+                   "/api/images/10/6e/jokbal1.jpg", jokbalCategory.getId(), 25000, 3000, "매일 15:00-24:00", StoreStatus.OPEN, owner7.getId());
         
         createStore("보쌈집", "부드러운 수육과 보쌈", "54346", "전북 전주시 덕진구 인후동", null, "063-999-0000",
-                   "/api/images/jokbal2.jpg", jokbalCategory.getId(), 22000, 2500, "매일 16:00-02:00", StoreStatus.OPEN, owner7.getId());
+                   "/api/images/45/23/jokbal2.jpg", jokbalCategory.getId(), 22000, 2500, "매일 16:00-02:00", StoreStatus.OPEN, owner7.getId());
 
         // 야식 가게들 (3개) - owner7(윤사장) 3개 (총 5개)
         createStore("야식왕", "늦은 밤 든든한 한끼", "54347", "전북 전주시 완산구 효자동", null, "063-111-2222",
-                   "/api/images/latenight1.jpg", lateNightCategory.getId(), 8000, 2000, "매일 20:00-06:00", StoreStatus.OPEN, owner7.getId());
+                   "/api/images/e4/58/latenight1.jpg", lateNightCategory.getId(), 8000, 2000, "매일 20:00-06:00", StoreStatus.OPEN, owner7.getId());
         
         createStore("치킨호프", "치킨과 맥주의 완벽한 조합", "54348", "전북 전주시 덕진구 덕진동", null, "063-222-3333",
-                   "/api/images/latenight2.jpg", lateNightCategory.getId(), 15000, 2500, "매일 18:00-03:00", StoreStatus.OPEN, owner7.getId());
+                   "/api/images/75/d8/latenight2.jpg", lateNightCategory.getId(), 15000, 2500, "매일 18:00-03:00", StoreStatus.OPEN, owner7.getId());
         
         createStore("포차", "전통 포장마차 야식", "54349", "전북 전주시 완산구 서신동", null, "063-333-4444",
-                   "/api/images/latenight3.jpg", lateNightCategory.getId(), 12000, 2000, "매일 19:00-04:00", StoreStatus.OPEN, owner7.getId());
+                   "/api/images/66/ca/latenight3.jpg", lateNightCategory.getId(), 12000, 2000, "매일 19:00-04:00", StoreStatus.OPEN, owner7.getId());
 
         log.info("가게 25개 생성 완료 (사장님 7명에게 균등 배분)");
     }
@@ -0,0 +1,117 @@
+package com.jeonjueats.config;
+
+import com.jeonjueats.security.JwtPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정
+ * app.datasource.routing.enabled=true일 때만 적용되며, 그렇지 않으면 Spring Boot 기본 단일 데이터소스 사용
+ *
+ * - primary: spring.datasource 설정 (쓰기 + 읽기 폴백)
+ * - replicas: app.datasource.routing.replicas 설정 (읽기 전용 트랜잭션)
+ * - read-your-writes: 서버별 기록 + 클라이언트가 되돌려 보내는 서명된 쓰기 표식으로 여러 서버에서 유지
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * primary 데이터소스 (spring.datasource.hikari 설정 적용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 데이터소스
+     * 복제본 커넥션 풀 크기는 primary와 동일하게 설정
+     */
+    @Bean
+    public ReadYourWritesMarker readYourWritesMarker(@Value("${jwt.secret-key}") String secretKey,
+                                                     DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesMarker(secretKey, routingProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadYourWritesMarker readYourWritesMarker,
+                                                       DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow(),
+                readYourWritesMarker::attachToCurrentResponse);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker,
+                                                     ReadYourWritesMarker readYourWritesMarker) {
+        return new ReadYourWritesFilter(readYourWritesTracker, readYourWritesMarker, DataSourceConfig::currentUserId);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceProperties dataSourceProperties,
+                                                        DataSourceRoutingProperties routingProperties,
+                                                        ReadYourWritesTracker readYourWritesTracker) {
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica config = routingProperties.getReplicas().get(i);
+            String name = "replica-" + (i + 1);
+
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setJdbcUrl(config.getUrl());
+            replica.setUsername(config.getUsername() != null ? config.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(config.getPassword() != null ? config.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setReadOnly(true);
+            replicas.add(new ReadWriteRoutingDataSource.Replica(name, replica));
+        }
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                readYourWritesTracker,
+                DataSourceConfig::currentUserId,
+                routingProperties.getMaxLag());
+        routingDataSource.startLagCheck(routingProperties.getLagCheckInterval());
+        return routingDataSource;
+    }
+
+    /**
+     * JPA가 사용할 데이터소스
+     * 실제 연결을 첫 SQL 실행 시점까지 미뤄, 트랜잭션의 readOnly 여부가 정해진 뒤 라우팅되도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.userId();
+        }
+        return null;
+    }
+}
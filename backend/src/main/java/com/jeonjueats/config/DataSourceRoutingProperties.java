@@ -0,0 +1,54 @@
+package com.jeonjueats.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정
+ * application.yml의 app.datasource.routing 설정을 바인딩
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+@Getter
+@Setter
+public class DataSourceRoutingProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (false면 기존처럼 primary 단일 데이터소스 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 읽기 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 허용할 최대 복제 지연 (초과 시 해당 복제본 제외)
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연 확인 주기
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 쓰기 이후 해당 사용자의 읽기를 primary로 보낼 시간 (read-your-writes)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jeonjueats.config;
+
+import com.jeonjueats.entity.id.SnowflakeIdGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.util.StringUtils;
+
+/**
+ * 시간 순서 ID 생성기 설정
+ * 여러 백엔드 서버가 같은 DB를 사용할 때는 서버마다 다른 노드 ID(0~31)를 지정해야 ID가 겹치지 않음
+ * 노드 ID(ID_NODE_ID)가 지정되지 않으면 개발 환경(프로필 없음, dev, local, test)에서만 0을 사용하고,
+ * 그 외 환경에서는 두 서버가 같은 ID를 발급하는 일이 없도록 기동을 중단
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdGeneratorConfig {
+
+    private static final long DEVELOPMENT_NODE_ID = 0L;
+
+    private final Environment environment;
+
+    @Value("${app.id.node-id:}")
+    private String nodeId;
+
+    @PostConstruct
+    void configureNodeId() {
+        if (StringUtils.hasText(nodeId)) {
+            long id;
+            try {
+                id = Long.parseLong(nodeId.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("app.id.node-id(ID_NODE_ID)는 0 ~ "
+                        + SnowflakeIdGenerator.MAX_NODE_ID + " 사이의 숫자여야 합니다: " + nodeId, e);
+            }
+            SnowflakeIdGenerator.configure(id);
+            log.info("ID 생성기 노드 ID 설정: {}", id);
+            return;
+        }
+
+        if (!isDevelopment()) {
+            throw new IllegalStateException("app.id.node-id(ID_NODE_ID)가 설정되지 않았습니다. "
+                    + "서버마다 서로 다른 노드 ID(0 ~ " + SnowflakeIdGenerator.MAX_NODE_ID + ")를 지정해야 합니다.");
+        }
+        SnowflakeIdGenerator.configure(DEVELOPMENT_NODE_ID);
+        log.warn("ID 생성기 노드 ID 미설정 - 개발 환경이므로 {} 사용 (서버를 여러 대 띄우면 ID가 겹칠 수 있음)",
+                DEVELOPMENT_NODE_ID);
+    }
+
+    private boolean isDevelopment() {
+        return environment.getActiveProfiles().length == 0
+                || environment.acceptsProfiles(Profiles.of("dev", "local", "test"));
+    }
+}
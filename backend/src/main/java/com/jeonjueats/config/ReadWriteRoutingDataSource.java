@@ -0,0 +1,203 @@
+package com.jeonjueats.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ * - @Transactional(readOnly = true) 트랜잭션은 사용 가능한 복제본으로 라운드로빈 분배
+ * - 쓰기 트랜잭션, 트랜잭션 밖의 연결, 최근 쓰기 사용자(read-your-writes)의 읽기는 primary로 보냄
+ * - 복제 지연이 허용치를 넘거나 연결에 실패한 복제본은 다음 확인 때까지 제외 (모두 제외되면 primary 사용)
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Supplier<Long> currentUserId;
+    private final long maxLagSeconds;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private ScheduledExecutorService lagChecker;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      List<Replica> replicas,
+                                      ReadYourWritesTracker readYourWritesTracker,
+                                      Supplier<Long> currentUserId,
+                                      Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.currentUserId = currentUserId;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            return opener.open(primary);
+        }
+        try {
+            return opener.open(replica.dataSource());
+        } catch (SQLException e) {
+            replica.markUnavailable("연결 실패 - " + e.getMessage());
+            return opener.open(primary);
+        }
+    }
+
+    /**
+     * 읽기 복제본 선택 (primary를 써야 하면 null)
+     */
+    Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.markWrite(currentUserId.get());
+            }
+            return null;
+        }
+        if (readYourWritesTracker.isRecentWriter(currentUserId.get())) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 복제 지연 주기 확인 시작
+     */
+    public void startLagCheck(Duration interval) {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 복제본별 복제 지연 확인
+     * 복제 상태가 없는 인스턴스(로컬 대체 DB 등)는 지연 0으로 간주
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    replica.markAvailable();
+                    continue;
+                }
+                long lag = resultSet.getLong("Seconds_Behind_Source");
+                if (resultSet.wasNull()) {
+                    replica.markUnavailable("복제 중단");
+                } else if (lag > maxLagSeconds) {
+                    replica.markUnavailable("복제 지연 " + lag + "초");
+                } else {
+                    replica.markAvailable();
+                }
+            } catch (SQLException e) {
+                replica.markUnavailable("상태 확인 실패 - " + e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("복제 지연 확인 중 오류 - {}: {}", replica.name(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 데이터소스 종료 실패 - {}: {}", replica.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * 읽기 복제본
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        boolean isAvailable() {
+            return available;
+        }
+
+        void markAvailable() {
+            if (!available) {
+                log.info("복제본 복귀 - {}", name);
+            }
+            available = true;
+        }
+
+        void markUnavailable(String reason) {
+            if (available) {
+                log.warn("복제본 제외 - {}: {}", name, reason);
+            }
+            available = false;
+        }
+    }
+}
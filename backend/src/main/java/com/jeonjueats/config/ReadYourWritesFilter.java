@@ -0,0 +1,43 @@
+package com.jeonjueats.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 표식 복원 필터
+ * 다른 서버에서 쓰기를 처리한 사용자가 보낸 쓰기 표식을 검증해 이 서버의 ReadYourWritesTracker에 반영
+ * 인증 정보가 필요하므로 Spring Security 필터 체인 뒤에서 실행됨 (기본 필터 순서)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReadYourWritesMarker readYourWritesMarker;
+    private final Supplier<Long> currentUserId;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker,
+                                ReadYourWritesMarker readYourWritesMarker,
+                                Supplier<Long> currentUserId) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.readYourWritesMarker = readYourWritesMarker;
+        this.currentUserId = currentUserId;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = currentUserId.get();
+        if (userId != null) {
+            long deadline = readYourWritesMarker.verify(readYourWritesMarker.read(request), userId);
+            if (deadline > 0) {
+                readYourWritesTracker.markWriteUntil(userId, deadline);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,133 @@
+package com.jeonjueats.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 쓰기 표식 (read-your-writes를 여러 서버에서 유지하기 위한 서명 토큰)
+ * 쓰기를 처리한 서버가 "사용자 ID.primary 읽기 마감 시각.HMAC 서명" 형식의 표식을 쿠키와 응답 헤더로 내려주고,
+ * 클라이언트가 다음 요청에 되돌려 보내면 어느 서버에서든 마감 시각까지 해당 사용자의 읽기를 primary로 보냄
+ * 서명 키는 JWT 서명 키를 사용하므로 클라이언트가 마감 시각이나 사용자를 바꿀 수 없음
+ */
+public class ReadYourWritesMarker {
+
+    public static final String COOKIE_NAME = "RYW";
+    public static final String HEADER_NAME = "X-Read-Your-Writes";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String ISSUED_ATTRIBUTE = ReadYourWritesMarker.class.getName() + ".ISSUED";
+
+    private final SecretKeySpec key;
+    private final Duration window;
+
+    public ReadYourWritesMarker(String secret, Duration window) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.window = window;
+    }
+
+    /**
+     * 표식 생성
+     */
+    String issue(long userId, long deadlineMillis) {
+        String payload = userId + "." + deadlineMillis;
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * 표식 검증 후 primary 읽기 마감 시각 반환 (서명이 맞지 않거나 다른 사용자의 표식이면 -1)
+     */
+    long verify(String marker, long userId) {
+        if (marker == null) {
+            return -1;
+        }
+        int signatureStart = marker.lastIndexOf('.');
+        int deadlineStart = marker.indexOf('.');
+        if (deadlineStart <= 0 || signatureStart <= deadlineStart) {
+            return -1;
+        }
+        String payload = marker.substring(0, signatureStart);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = marker.substring(signatureStart + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return -1;
+        }
+        try {
+            if (Long.parseLong(marker.substring(0, deadlineStart)) != userId) {
+                return -1;
+            }
+            return Long.parseLong(marker.substring(deadlineStart + 1, signatureStart));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 요청의 표식 (헤더 우선, 없으면 쿠키)
+     */
+    String read(HttpServletRequest request) {
+        String header = request.getHeader(HEADER_NAME);
+        if (header != null) {
+            return header;
+        }
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 현재 처리 중인 요청의 응답에 표식 추가 (쓰기 트랜잭션이 연결을 얻을 때 호출)
+     * 요청 스레드가 아니거나 응답이 이미 전송되기 시작했으면 이 서버의 기록만 남음
+     */
+    void attachToCurrentResponse(Long userId, long deadlineMillis) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (userId == null || !(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+        HttpServletResponse response = servletAttributes.getResponse();
+        if (response == null || response.isCommitted()
+                || servletAttributes.getAttribute(ISSUED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        servletAttributes.setAttribute(ISSUED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+
+        String marker = issue(userId, deadlineMillis);
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, marker)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(window)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        response.setHeader(HEADER_NAME, marker);
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("쓰기 표식 서명 실패", e);
+        }
+    }
+}
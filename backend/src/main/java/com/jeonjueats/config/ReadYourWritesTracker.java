@@ -0,0 +1,86 @@
+package com.jeonjueats.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 쓰기 사용자 추적 (read-your-writes)
+ * 주문 등 쓰기 트랜잭션을 수행한 사용자는 일정 시간 동안 읽기도 primary에서 처리하여
+ * 복제 지연 때문에 방금 만든 데이터가 보이지 않는 문제를 방지
+ *
+ * 기록은 서버(노드)별 메모리에 있으므로, 다른 서버로 간 요청은 쓰기 리스너가 내려준 쓰기 표식
+ * (ReadYourWritesMarker 쿠키/헤더)을 ReadYourWritesFilter가 복원해야 primary로 감
+ * 표식을 되돌려 보내지 않는 클라이언트와 비로그인 요청은 다른 서버에서 복제본을 읽을 수 있으므로,
+ * 그런 클라이언트가 필요하면 로드밸런서의 사용자별 고정 라우팅(sticky session)을 함께 사용해야 함
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final WriteListener writeListener;
+    private final Map<Long, Long> writeDeadlines = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, (userId, deadlineMillis) -> {
+        });
+    }
+
+    /**
+     * @param writeListener 쓰기 기록 시 호출 (다른 서버에도 알리도록 응답에 쓰기 표식 추가)
+     */
+    public ReadYourWritesTracker(Duration window, WriteListener writeListener) {
+        this.windowMillis = window.toMillis();
+        this.writeListener = writeListener;
+    }
+
+    /**
+     * 쓰기 기록
+     */
+    public void markWrite(Long userId) {
+        if (userId == null || windowMillis <= 0) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + windowMillis;
+        markWriteUntil(userId, deadline);
+        writeListener.onWrite(userId, deadline);
+    }
+
+    /**
+     * 다른 서버에서 기록된 쓰기 반영 (쓰기 표식의 마감 시각까지 primary 읽기)
+     */
+    public void markWriteUntil(Long userId, long deadlineMillis) {
+        long now = System.currentTimeMillis();
+        if (userId == null || deadlineMillis <= now) {
+            return;
+        }
+        if (writeDeadlines.size() >= PURGE_THRESHOLD) {
+            writeDeadlines.values().removeIf(deadline -> deadline <= now);
+        }
+        writeDeadlines.merge(userId, deadlineMillis, Math::max);
+    }
+
+    /**
+     * 최근 쓰기 여부 (읽기를 primary로 보내야 하는지)
+     */
+    public boolean isRecentWriter(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long deadline = writeDeadlines.get(userId);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline <= System.currentTimeMillis()) {
+            writeDeadlines.remove(userId, deadline);
+            return false;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    public interface WriteListener {
+        void onWrite(Long userId, long deadlineMillis);
+    }
+}
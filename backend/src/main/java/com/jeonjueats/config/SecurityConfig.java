@@ -2,6 +2,7 @@ package com.jeonjueats.config;
 
 import com.jeonjueats.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -42,10 +43,13 @@ public class SecurityConfig {
      * - 비밀번호를 안전하게 해싱(암호화)하는 알고리즘
      * - 같은 비밀번호라도 매번 다른 해시값이 나옴 (Salt 사용)
      * - 역계산이 매우 어려워 보안상 안전함
+     * 
+     * cost(strength)는 app.security.bcrypt.strength로 설정하며,
+     * 기존 사용자 해시는 로그인 성공 시 새 cost로 다시 저장됨
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -23,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Tag(name = "인증 API", description = "회원가입, 로그인 등 사용자 인증을 담당하는 API")
 @Slf4j
@@ -300,6 +303,22 @@ public class AuthController {
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "로그인 요청 과다 (잠시 후 재시도)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "로그인 요청 과다",
+                    value = """
+                        {
+                          "code": "LOGIN_BUSY",
+                          "message": "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."
+                        }
+                        """
+                )
+            )
+        ),
         @ApiResponse(
             responseCode = "500",
             description = "서버 내부 오류",
@@ -318,7 +337,7 @@ public class AuthController {
         )
     })
     @PostMapping("/login")
-    public ResponseEntity<?> login(
+    public CompletableFuture<ResponseEntity<?>> login(
             @Parameter(description = "로그인 요청 정보", required = true)
             @Valid @RequestBody LoginRequestDto requestDto, 
             BindingResult bindingResult) {
@@ -336,30 +355,50 @@ public class AuthController {
             errorResponse.put("message", "입력값이 올바르지 않습니다.");
             errorResponse.put("errors", errors);
             
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         try {
-            // 2. 로그인 처리
-            LoginResponseDto response = authService.login(requestDto);
-            return ResponseEntity.ok(response);
+            // 2. 로그인 처리 (비밀번호 검증 완료 시 응답, 요청 스레드는 즉시 반환)
+            return authService.login(requestDto)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> loginFailure(e instanceof CompletionException ? e.getCause() : e));
             
         } catch (RuntimeException e) {
-            // 3. 인증 실패 처리
-            if ("AUTHENTICATION_FAILED".equals(e.getMessage())) {
-                Map<String, String> errorResponse = new HashMap<>();
-                errorResponse.put("code", "AUTHENTICATION_FAILED");
-                errorResponse.put("message", "이메일 또는 비밀번호가 올바르지 않습니다.");
-                
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
-            }
+            return CompletableFuture.completedFuture(loginFailure(e));
+        }
+    }
+
+    /**
+     * 로그인 실패 응답 생성
+     */
+    private ResponseEntity<?> loginFailure(Throwable e) {
+        // 3. 인증 실패 처리
+        if ("AUTHENTICATION_FAILED".equals(e.getMessage())) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("code", "AUTHENTICATION_FAILED");
+            errorResponse.put("message", "이메일 또는 비밀번호가 올바르지 않습니다.");
             
-            // 4. 기타 예외 처리
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        }
+
+        // 4. 로그인 요청 과다 (비밀번호 검증 대기열 초과)
+        if ("LOGIN_BUSY".equals(e.getMessage())) {
             Map<String, String> errorResponse = new HashMap<>();
-            errorResponse.put("code", "INTERNAL_SERVER_ERROR");
-            errorResponse.put("message", "서버 내부 오류가 발생했습니다.");
+            errorResponse.put("code", "LOGIN_BUSY");
+            errorResponse.put("message", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
             
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(errorResponse);
         }
+        
+        // 5. 기타 예외 처리
+        log.error("로그인 처리 중 오류 발생: {}", e.getMessage());
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("code", "INTERNAL_SERVER_ERROR");
+        errorResponse.put("message", "서버 내부 오류가 발생했습니다.");
+        
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
-} 
\ No newline at end of file
+}
@@ -5,7 +5,7 @@ import com.jeonjueats.dto.CartItemRequestDto;
 import com.jeonjueats.dto.CartItemResponseDto;
 import com.jeonjueats.dto.CartItemUpdateRequestDto;
 import com.jeonjueats.dto.CartResponseDto;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import com.jeonjueats.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,7 +16,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +32,6 @@ import org.springframework.web.bind.annotation.*;
 public class CartController {
 
     private final CartService cartService;
-    private final JwtUtil jwtUtil;
 
     @Operation(
         summary = "장바구니 메뉴 추가/수량 변경",
@@ -155,12 +153,11 @@ public class CartController {
     public ResponseEntity<CartItemResponseDto> processCartItem(
             @Parameter(description = "메뉴 추가 또는 수량 변경 정보", required = true)
             @Valid @RequestBody CartItemRequestDto requestDto,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("장바구니 처리 요청 - 타입: {}", 
                 requestDto.isAddMenuRequest() ? "메뉴 추가" : "수량 변경");
         
-        Long userId = getCurrentUserId(request);
         CartItemResponseDto response = cartService.processCartItem(userId, requestDto);
         
         log.info("장바구니 처리 완료 - 사용자 ID: {}, 메뉴: {}, 장바구니 아이템 ID: {}", 
@@ -178,12 +175,11 @@ public class CartController {
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<CartItemResponseDto> addMenuToCart(
             @Valid @RequestBody CartItemAddRequestDto requestDto,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("[DEPRECATED] 장바구니 추가 요청 - 메뉴 ID: {}, 수량: {}", 
                 requestDto.getMenuId(), requestDto.getQuantity());
         
-        Long userId = getCurrentUserId(request);
         CartItemResponseDto response = cartService.addMenuToCart(userId, requestDto);
         
         log.info("[DEPRECATED] 장바구니 추가 완료 - 사용자 ID: {}, 메뉴: {}, 장바구니 아이템 ID: {}", 
@@ -272,11 +268,10 @@ public class CartController {
     @GetMapping
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<CartResponseDto> getCart(
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("장바구니 조회 요청");
         
-        Long userId = getCurrentUserId(request);
         CartResponseDto response = cartService.getCart(userId);
         
         log.info("장바구니 조회 완료 - 사용자 ID: {}, 아이템 수: {}, 총 금액: {}", 
@@ -295,12 +290,11 @@ public class CartController {
     public ResponseEntity<CartItemResponseDto> updateCartItem(
             @PathVariable Long cartItemId,
             @Valid @RequestBody CartItemUpdateRequestDto requestDto,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("[DEPRECATED] 장바구니 아이템 수량 변경 요청 - 아이템 ID: {}, 새 수량: {}", 
                 cartItemId, requestDto.getQuantity());
         
-        Long userId = getCurrentUserId(request);
         CartItemResponseDto response = cartService.updateCartItem(userId, cartItemId, requestDto.getQuantity());
         
         log.info("[DEPRECATED] 장바구니 아이템 수량 변경 완료 - 사용자 ID: {}, 아이템 ID: {}, 새 수량: {}", 
@@ -382,11 +376,10 @@ public class CartController {
     public ResponseEntity<Void> deleteCartItem(
             @Parameter(description = "삭제할 장바구니 아이템 ID", required = true, example = "5")
             @PathVariable Long cartItemId,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("장바구니 아이템 삭제 요청 - 아이템 ID: {}", cartItemId);
         
-        Long userId = getCurrentUserId(request);
         cartService.deleteCartItem(userId, cartItemId);
         
         log.info("장바구니 아이템 삭제 완료 - 사용자 ID: {}, 아이템 ID: {}", userId, cartItemId);
@@ -427,30 +420,14 @@ public class CartController {
     @DeleteMapping
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<Void> clearCart(
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("전체 장바구니 비우기 요청");
         
-        Long userId = getCurrentUserId(request);
         cartService.clearCart(userId);
         
         log.info("전체 장바구니 비우기 완료 - 사용자 ID: {}", userId);
         
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * JWT 토큰에서 사용자 ID 추출 
-     * 
-     * @param request HTTP 요청
-     * @return 사용자 ID
-     */
-    private Long getCurrentUserId(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.getUserIdFromToken(token);
-        }
-        throw new RuntimeException("JWT 토큰을 찾을 수 없습니다.");
-    }
 } 
\ No newline at end of file
@@ -11,15 +11,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -46,7 +49,8 @@ public class ImageController {
      */
     @Operation(
         summary = "이미지 파일 업로드",
-        description = "인증된 사용자가 가게 대표 이미지나 메뉴 이미지를 서버에 업로드합니다. JPEG, PNG 형식만 지원하며 최대 5MB까지 업로드 가능합니다."
+        description = "인증된 사용자가 가게 대표 이미지나 메뉴 이미지를 서버에 업로드합니다. JPEG, PNG 형식만 지원하며 최대 5MB까지 업로드 가능합니다. " +
+                      "축소본(variantUrls)은 업로드 후 비동기로 생성되며, 생성 전에는 원본이 응답됩니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -59,7 +63,12 @@ public class ImageController {
                     value = """
                     {
                       "imageUrl": "/images/menus/abcdef12-3456-7890-abcd-ef1234567890.png",
-                      "originalFileName": "갈비탕.png"
+                      "originalFileName": "갈비탕.png",
+                      "variantUrls": {
+                        "160": "/images/menus/abcdef12-3456-7890-abcd-ef1234567890.png?w=160",
+                        "480": "/images/menus/abcdef12-3456-7890-abcd-ef1234567890.png?w=480",
+                        "1080": "/images/menus/abcdef12-3456-7890-abcd-ef1234567890.png?w=1080"
+                      }
                     }
                     """
                 )
@@ -132,6 +141,45 @@ public class ImageController {
             @RequestParam("file") MultipartFile file,
             @Parameter(description = "이미지 분류 (stores: 가게 이미지, menus: 메뉴 이미지)", example = "menus")
             @RequestParam("domain") String domain) {
+        return upload(file.getOriginalFilename(), domain, () -> imageService.uploadImage(file, domain));
+    }
+
+    /**
+     * 이미지 스트리밍 업로드 API
+     * 요청 본문(이미지 바이트)을 임시 파일 없이 바로 저장소에 기록
+     *
+     * @param request 요청 (본문을 직접 읽음)
+     * @param domain 이미지가 사용될 도메인 (stores, menus 등)
+     * @param filename 원본 파일명 (선택)
+     * @return 업로드된 이미지 정보 (201 Created)
+     */
+    @Operation(
+        summary = "이미지 파일 스트리밍 업로드",
+        description = "multipart 대신 요청 본문에 이미지 바이트를 그대로 담아 업로드합니다. Content-Type은 image/jpeg 또는 image/png이며 최대 5MB입니다. " +
+                      "서버는 본문을 버퍼링하지 않고 저장하면서 형식(매직 바이트)과 크기를 검증합니다. 응답과 오류 형식은 /api/upload/upload와 같습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "이미지 업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (INVALID_FILE_FORMAT, FILE_SIZE_EXCEEDED, INVALID_FILE)"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(value = "/stream", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+    public ResponseEntity<?> uploadImageStream(
+            HttpServletRequest request,
+            @Parameter(description = "이미지 분류 (stores: 가게 이미지, menus: 메뉴 이미지)", example = "menus")
+            @RequestParam("domain") String domain,
+            @Parameter(description = "원본 파일명 (응답에 그대로 포함)", example = "갈비탕.png")
+            @RequestParam(value = "filename", required = false) String filename) {
+        return upload(filename, domain, () -> imageService.uploadImageStream(
+                request.getInputStream(), request.getContentLengthLong(), request.getContentType(), filename, domain));
+    }
+
+    /**
+     * 인증 확인 후 업로드를 수행하고 결과/오류를 응답으로 변환 (두 업로드 API 공통)
+     */
+    private ResponseEntity<?> upload(String originalFilename, String domain, UploadAction uploadAction) {
         try {
             // 1. 인증 확인
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -143,12 +191,12 @@ public class ImageController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
             }
 
-            String userEmail = (String) authentication.getPrincipal();
+            String userEmail = authentication.getName();
             log.info("이미지 업로드 요청: email={}, filename={}, domain={}", 
-                    userEmail, file.getOriginalFilename(), domain);
+                    userEmail, originalFilename, domain);
 
             // 2. 이미지 업로드 처리
-            ImageUploadResponseDto response = imageService.uploadImage(file, domain);
+            ImageUploadResponseDto response = uploadAction.upload();
 
             log.info("이미지 업로드 성공: email={}, filename={}, imageUrl={}", 
                     userEmail, response.getFilename(), response.getImageUrl());
@@ -202,4 +250,9 @@ public class ImageController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-} 
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface UploadAction {
+        ImageUploadResponseDto upload() throws IOException;
+    }
+}
\ No newline at end of file
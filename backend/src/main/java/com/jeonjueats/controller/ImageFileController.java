@@ -0,0 +1,58 @@
+package com.jeonjueats.controller;
+
+import com.jeonjueats.image.ImageFileServer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 업로드 이미지 조회 API 컨트롤러 (인증 불필요)
+ * 예시:
+ * - 요청: /api/images/ba/78/{sha256}.jpg → 실제 파일: ./uploads/images/ba/78/{sha256}.jpg
+ * - 요청: /api/images/ba/78/{sha256}.jpg?w=480 → ./uploads/images/ba/78/{sha256}_w480.jpg (없으면 원본)
+ * - 요청: /api/images/chicken1.jpg (샤딩 이전 URL) → 샤딩 경로에서 찾아 응답
+ */
+@Tag(name = "이미지 조회 API", description = "업로드된 가게/메뉴 이미지 파일 조회 API (인증 불필요)")
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageFileController {
+
+    private final ImageFileServer imageFileServer;
+
+    @Operation(
+        summary = "이미지 파일 조회",
+        description = "업로드된 이미지 파일을 조회합니다. w 파라미터로 축소본(160/480/1080)을 요청할 수 있으며, " +
+                      "Range 요청과 조건부 요청(If-None-Match / If-Modified-Since)을 지원합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "이미지 조회 성공"),
+        @ApiResponse(responseCode = "206", description = "요청한 범위의 이미지 일부"),
+        @ApiResponse(responseCode = "304", description = "이미지 변경 없음"),
+        @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음"),
+        @ApiResponse(responseCode = "416", description = "요청 범위가 파일 크기를 벗어남")
+    })
+    @GetMapping("/{*path}")
+    public void getImage(
+            @Parameter(description = "이미지 경로", example = "/chicken1.jpg")
+            @PathVariable("path") String path,
+            @Parameter(description = "축소본 너비 (px, 생략 시 원본)", example = "480")
+            @RequestParam(value = "w", required = false) Integer width,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        imageFileServer.serve(path.startsWith("/") ? path.substring(1) : path, width, request, response);
+    }
+}
@@ -1,9 +1,10 @@
 package com.jeonjueats.controller;
 
+import com.jeonjueats.dto.CursorPageResponseDto;
 import com.jeonjueats.dto.OrderCreateRequestDto;
 import com.jeonjueats.dto.OrderListResponseDto;
 import com.jeonjueats.dto.OrderResponseDto;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import com.jeonjueats.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +15,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +34,6 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
-    private final JwtUtil jwtUtil;
 
     @Operation(
         summary = "주문 생성",
@@ -145,11 +144,10 @@ public class OrderController {
     public ResponseEntity<OrderResponseDto> createOrder(
             @Parameter(description = "주문 생성 정보", required = true)
             @Valid @RequestBody OrderCreateRequestDto requestDto,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("주문 생성 요청 - 배달 주소: {}", requestDto.getDeliveryAddress1());
         
-        Long userId = getCurrentUserId(request);
         OrderResponseDto orderResponse = orderService.createOrder(userId, requestDto);
         
         log.info("주문 생성 성공 - 주문 ID: {}, 사용자 ID: {}, 총 금액: {}", 
@@ -235,11 +233,10 @@ public class OrderController {
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("주문 목록 조회 요청 - 페이지: {}, 크기: {}", page, size);
         
-        Long userId = getCurrentUserId(request);
         Pageable pageable = PageRequest.of(page, size);
         Page<OrderListResponseDto> orders = orderService.getMyOrders(userId, pageable);
         
@@ -248,6 +245,34 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(
+        summary = "내 주문 목록 조회 (커서 기반)",
+        description = "주문 목록을 최신순으로 커서 기반 조회합니다. 전체 개수를 계산하지 않으므로 페이지가 깊어져도 조회 비용이 같습니다. " +
+                      "첫 요청은 cursor 없이 호출하고, 다음 페이지는 응답의 nextCursor를 그대로 전달합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "주문 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 (INVALID_CURSOR)"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPageResponseDto<OrderListResponseDto>> getMyOrdersByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
+
+        CursorPageResponseDto<OrderListResponseDto> orders = orderService.getMyOrdersByCursor(userId, cursor, size);
+
+        log.info("주문 목록 커서 조회 성공 - 사용자 ID: {}, {}건, 다음 페이지: {}",
+                userId, orders.getContent().size(), orders.isHasNext());
+
+        return ResponseEntity.ok(orders);
+    }
+
     @Operation(
         summary = "내 주문 상세 조회",
         description = "특정 주문의 상세 정보를 조회합니다. 본인의 주문만 조회할 수 있습니다."
@@ -359,30 +384,14 @@ public class OrderController {
     public ResponseEntity<OrderResponseDto> getMyOrderDetail(
             @Parameter(description = "주문 ID", required = true, example = "501")
             @PathVariable Long orderId,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         
         log.info("주문 상세 조회 요청 - 주문 ID: {}", orderId);
         
-        Long userId = getCurrentUserId(request);
         OrderResponseDto orderDetail = orderService.getMyOrderDetail(userId, orderId);
         
         log.info("주문 상세 조회 성공 - 주문 ID: {}, 사용자 ID: {}", orderId, userId);
 
         return ResponseEntity.ok(orderDetail);
     }
-
-    /**
-     * JWT 토큰에서 사용자 ID 추출 
-     * 
-     * @param request HTTP 요청
-     * @return 사용자 ID
-     */
-    private Long getCurrentUserId(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.getUserIdFromToken(token);
-        }
-        throw new RuntimeException("JWT 토큰을 찾을 수 없습니다.");
-    }
 } 
\ No newline at end of file
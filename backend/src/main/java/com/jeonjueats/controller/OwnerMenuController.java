@@ -1,10 +1,12 @@
 package com.jeonjueats.controller;
 
+import com.jeonjueats.cache.CatalogVersion;
+import com.jeonjueats.cache.ConditionalGet;
 import com.jeonjueats.dto.MenuCreateRequestDto;
 import com.jeonjueats.dto.MenuUpdateRequestDto;
 import com.jeonjueats.entity.Menu;
 import com.jeonjueats.service.OwnerMenuService;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,7 +39,6 @@ import org.springframework.data.domain.Pageable;
 public class OwnerMenuController {
 
     private final OwnerMenuService ownerMenuService;
-    private final JwtUtil jwtUtil;
 
     /**
      * 새 메뉴 등록
@@ -120,11 +121,10 @@ public class OwnerMenuController {
             @Parameter(description = "메뉴를 등록할 가게 ID", example = "15", required = true) 
             @PathVariable Long storeId,
             @Valid @RequestBody MenuCreateRequestDto requestDto,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
         log.info("메뉴 등록 요청 - 가게 ID: {}, 메뉴명: {}", storeId, requestDto.getMenuName());
         
-        Long ownerId = getCurrentUserId(request);
         Menu createdMenu = ownerMenuService.createMenu(ownerId, storeId, requestDto);
         
         log.info("메뉴 등록 완료 - 메뉴 ID: {}, 메뉴명: {}", createdMenu.getId(), createdMenu.getName());
@@ -219,7 +219,8 @@ public class OwnerMenuController {
                   "path": "/api/owner/stores/999/menus",
                   "errorCode": "STORE_NOT_FOUND"
                 }
-                """)))
+                """))),
+        @ApiResponse(responseCode = "304", description = "메뉴 목록 변경 없음 (If-None-Match 일치)")
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/stores/{storeId}/menus")
@@ -229,15 +230,23 @@ public class OwnerMenuController {
             @PathVariable Long storeId,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") 
             Pageable pageable,
+            @Parameter(hidden = true) @CurrentUserId Long ownerId,
             HttpServletRequest request) {
         
         log.info("메뉴 목록 조회 요청 - 가게 ID: {}", storeId);
+
+        // 소유권 검증 후 집계 쿼리로 버전만 확인하여 변경이 없으면 304
+        CatalogVersion version = ownerMenuService.getMenuListVersion(ownerId, storeId);
+        String notModifiedEtag = ConditionalGet.notModifiedEtag(request, version.etag());
+        if (notModifiedEtag != null) {
+            log.info("메뉴 목록 변경 없음 (304) - 가게 ID: {}", storeId);
+            return ConditionalGet.notModified(notModifiedEtag);
+        }
         
-        Long ownerId = getCurrentUserId(request);
         Page<Menu> menus = ownerMenuService.getMenus(ownerId, storeId, pageable);
         
         log.info("메뉴 목록 조회 완료 - 가게 ID: {}, 메뉴 수: {}", storeId, menus.getContent().size());
-        return ResponseEntity.ok(menus);
+        return ConditionalGet.ok(version.etag()).body(menus);
     }
 
     /**
@@ -324,11 +333,10 @@ public class OwnerMenuController {
             @Parameter(description = "수정할 메뉴 ID", example = "205", required = true) 
             @PathVariable Long menuId,
             @Valid @RequestBody MenuUpdateRequestDto requestDto,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
         log.info("메뉴 수정 요청 - 가게 ID: {}, 메뉴 ID: {}", storeId, menuId);
         
-        Long ownerId = getCurrentUserId(request);
         Menu updatedMenu = ownerMenuService.updateMenu(ownerId, storeId, menuId, requestDto);
         
         log.info("메뉴 수정 완료 - 메뉴 ID: {}, 메뉴명: {}", updatedMenu.getId(), updatedMenu.getName());
@@ -399,11 +407,10 @@ public class OwnerMenuController {
             @PathVariable Long storeId,
             @Parameter(description = "삭제할 메뉴 ID", example = "205", required = true) 
             @PathVariable Long menuId,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
         log.info("메뉴 삭제 요청 - 가게 ID: {}, 메뉴 ID: {}", storeId, menuId);
         
-        Long ownerId = getCurrentUserId(request);
         ownerMenuService.deleteMenu(ownerId, storeId, menuId);
         
         log.info("메뉴 삭제 완료 - 메뉴 ID: {}", menuId);
@@ -480,31 +487,14 @@ public class OwnerMenuController {
             @PathVariable Long storeId,
             @Parameter(description = "상태를 변경할 메뉴 ID", example = "205", required = true) 
             @PathVariable Long menuId,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
         log.info("메뉴 판매 상태 토글 요청 - 가게 ID: {}, 메뉴 ID: {}", storeId, menuId);
         
-        Long ownerId = getCurrentUserId(request);
         Menu updatedMenu = ownerMenuService.toggleMenuAvailability(ownerId, storeId, menuId);
         
         log.info("메뉴 판매 상태 토글 완료 - 메뉴 ID: {}, 변경된 상태: {}", 
                 updatedMenu.getId(), updatedMenu.getStatus());
         return ResponseEntity.ok(updatedMenu);
     }
-
-    /**
-     * JWT 토큰에서 현재 사용자 ID 추출
-     * Authorization 헤더의 Bearer 토큰을 파싱하여 사용자 ID를 반환
-     * 
-     * @param request HTTP 요청
-     * @return 현재 로그인한 사용자의 ID
-     */
-    private Long getCurrentUserId(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.getUserIdFromToken(token);
-        }
-        throw new RuntimeException("JWT 토큰을 찾을 수 없습니다.");
-    }
 } 
\ No newline at end of file
@@ -1,10 +1,11 @@
 package com.jeonjueats.controller;
 
+import com.jeonjueats.dto.CursorPageResponseDto;
 import com.jeonjueats.dto.OwnerOrderListResponseDto;
 import com.jeonjueats.dto.OrderResponseDto;
 import com.jeonjueats.dto.OrderStatusUpdateRequestDto;
 import com.jeonjueats.entity.OrderStatus;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import com.jeonjueats.service.OwnerOrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,8 +26,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import jakarta.servlet.http.HttpServletRequest;
-
 /**
  * 사장님용 주문 관리 컨트롤러
  * 가게별 주문 조회 및 관리 API 제공
@@ -39,7 +38,6 @@ import jakarta.servlet.http.HttpServletRequest;
 public class OwnerOrderController {
 
     private final OwnerOrderService ownerOrderService;
-    private final JwtUtil jwtUtil;
 
     /**
      * 가게별 주문 목록 조회 (상태별 필터링 지원)
@@ -150,15 +148,11 @@ public class OwnerOrderController {
             @RequestParam(required = false) OrderStatus status,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") 
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
 
         log.info("사장님용 주문 목록 조회 - storeId: {}, status: {}, page: {}, size: {}", 
                 storeId, status, pageable.getPageNumber(), pageable.getPageSize());
 
-        // JWT에서 사장님 ID 추출
-        String token = jwtUtil.resolveToken(request);
-        Long ownerId = jwtUtil.getUserIdFromToken(token);
-
         // 주문 목록 조회
         Page<OwnerOrderListResponseDto> orders = ownerOrderService.getStoreOrders(storeId, status, ownerId, pageable);
 
@@ -168,6 +162,41 @@ public class OwnerOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 가게별 주문 목록 커서 기반 조회
+     * GET /api/owner/stores/{storeId}/orders/cursor
+     */
+    @Operation(summary = "주문 목록 조회 (커서 기반)",
+        description = "가게 주문 목록을 최신순으로 커서 기반 조회합니다. 전체 개수를 계산하지 않으므로 페이지가 깊어져도 조회 비용이 같습니다. " +
+                      "첫 요청은 cursor 없이 호출하고, 다음 페이지는 응답의 nextCursor를 그대로 전달합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "주문 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 (INVALID_CURSOR)"),
+        @ApiResponse(responseCode = "403", description = "가게 접근 권한 없음")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ROLE_OWNER')")
+    public ResponseEntity<CursorPageResponseDto<OwnerOrderListResponseDto>> getStoreOrdersByCursor(
+            @Parameter(description = "조회할 가게 ID", example = "15", required = true)
+            @PathVariable Long storeId,
+            @Parameter(description = "주문 상태 필터링 (PENDING, ACCEPTED, DELIVERING, COMPLETED, REJECTED)", example = "PENDING")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
+
+        CursorPageResponseDto<OwnerOrderListResponseDto> orders =
+                ownerOrderService.getStoreOrdersByCursor(storeId, status, ownerId, cursor, size);
+
+        log.info("사장님용 주문 목록 커서 조회 완료 - storeId: {}, {}건, 다음 페이지: {}",
+                storeId, orders.getContent().size(), orders.isHasNext());
+
+        return ResponseEntity.ok(orders);
+    }
+
     /**
      * 가게별 특정 주문 상세 조회
      * GET /api/owner/stores/{storeId}/orders/{orderId}
@@ -264,14 +293,10 @@ public class OwnerOrderController {
             @PathVariable Long storeId,
             @Parameter(description = "조회할 주문 ID", example = "501", required = true) 
             @PathVariable Long orderId,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
 
         log.info("사장님용 주문 상세 조회 - storeId: {}, orderId: {}", storeId, orderId);
 
-        // JWT에서 사장님 ID 추출
-        String token = jwtUtil.resolveToken(request);
-        Long ownerId = jwtUtil.getUserIdFromToken(token);
-
         // 주문 상세 조회
         OrderResponseDto orderDetail = ownerOrderService.getStoreOrderDetail(storeId, orderId, ownerId);
 
@@ -395,15 +420,11 @@ public class OwnerOrderController {
             @Parameter(description = "상태를 변경할 주문 ID", example = "501", required = true) 
             @PathVariable Long orderId,
             @RequestBody OrderStatusUpdateRequestDto request,
-            HttpServletRequest httpRequest) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
         log.info("사장님용 주문 상태 변경 - storeId: {}, orderId: {}, newStatus: {}", 
                 storeId, orderId, request.getNewStatus());
 
-        // JWT에서 사장님 ID 추출
-        String token = jwtUtil.resolveToken(httpRequest);
-        Long ownerId = jwtUtil.getUserIdFromToken(token);
-
         // 주문 상태 변경
         OrderResponseDto updatedOrder = ownerOrderService.updateOrderStatus(storeId, orderId, ownerId, request);
         
@@ -4,7 +4,7 @@ import com.jeonjueats.dto.StoreCreateRequestDto;
 import com.jeonjueats.dto.StoreResponseDto;
 import com.jeonjueats.dto.StoreUpdateRequestDto;
 import com.jeonjueats.service.OwnerStoreService;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,7 +14,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,7 +39,6 @@ import org.springframework.web.bind.annotation.*;
 public class OwnerStoreController {
 
     private final OwnerStoreService ownerStoreService;
-    private final JwtUtil jwtUtil;
 
     /**
      * 새 가게 등록
@@ -117,11 +115,10 @@ public class OwnerStoreController {
     @PreAuthorize("hasRole('ROLE_OWNER')")
     public ResponseEntity<StoreResponseDto> createStore(
             @Valid @RequestBody StoreCreateRequestDto requestDto,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
         log.info("가게 등록 요청: {}", requestDto.getName());
         
-        Long ownerId = getCurrentUserId(request);
         StoreResponseDto response = ownerStoreService.createStore(ownerId, requestDto);
         
         log.info("가게 등록 완료 - ID: {}, 이름: {}", response.getStoreId(), response.getName());
@@ -220,9 +217,8 @@ public class OwnerStoreController {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") 
             @PageableDefault(page = 0, size = 10, sort = "createdAt", direction = Sort.Direction.DESC) 
             Pageable pageable,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
-        Long ownerId = getCurrentUserId(request);
         log.info("내 가게 목록 조회 요청 - 사장님 ID: {}, 페이지: {}", ownerId, pageable.getPageNumber());
         
         Page<StoreResponseDto> stores = ownerStoreService.getMyStores(ownerId, pageable);
@@ -307,9 +303,8 @@ public class OwnerStoreController {
     public ResponseEntity<StoreResponseDto> getMyStore(
             @Parameter(description = "조회할 가게 ID", example = "15", required = true) 
             @PathVariable Long storeId,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
-        Long ownerId = getCurrentUserId(request);
         log.info("내 가게 상세 조회 요청 - 사장님 ID: {}, 가게 ID: {}", ownerId, storeId);
         
         StoreResponseDto store = ownerStoreService.getStoreDetail(storeId, ownerId);
@@ -409,9 +404,8 @@ public class OwnerStoreController {
             @Parameter(description = "수정할 가게 ID", example = "15", required = true) 
             @PathVariable Long storeId,
             @Valid @RequestBody StoreUpdateRequestDto requestDto,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
-        Long ownerId = getCurrentUserId(request);
         log.info("가게 정보 수정 요청 - 사장님 ID: {}, 가게 ID: {}", ownerId, storeId);
         
         StoreResponseDto updatedStore = ownerStoreService.updateStore(ownerId, storeId, requestDto);
@@ -496,9 +490,8 @@ public class OwnerStoreController {
     public ResponseEntity<StoreResponseDto> toggleStoreOperationStatus(
             @Parameter(description = "운영 상태를 변경할 가게 ID", example = "15", required = true) 
             @PathVariable Long storeId,
-            HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         
-        Long ownerId = getCurrentUserId(request);
         log.info("가게 운영 상태 변경 요청 - 사장님 ID: {}, 가게 ID: {}", ownerId, storeId);
         
         StoreResponseDto updatedStore = ownerStoreService.toggleStoreOperationStatus(ownerId, storeId);
@@ -567,8 +560,7 @@ public class OwnerStoreController {
     public ResponseEntity<Void> deleteStore(
             @Parameter(description = "삭제할 가게 ID", example = "15", required = true) 
             @PathVariable Long storeId, 
-            HttpServletRequest request) {
-        Long ownerId = getCurrentUserId(request);
+            @Parameter(hidden = true) @CurrentUserId Long ownerId) {
         log.info("가게 삭제 요청 - 사장님 ID: {}, 가게 ID: {}", ownerId, storeId);
         
         ownerStoreService.deleteStore(ownerId, storeId);
@@ -576,20 +568,4 @@ public class OwnerStoreController {
         log.info("가게 삭제 완료 - 가게 ID: {}", storeId);
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * JWT 토큰에서 현재 사용자 ID 추출
-     * Authorization 헤더의 Bearer 토큰을 파싱하여 사용자 ID를 반환
-     * 
-     * @param request HTTP 요청
-     * @return 현재 로그인한 사용자의 ID
-     */
-    private Long getCurrentUserId(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.getUserIdFromToken(token);
-        }
-        throw new RuntimeException("JWT 토큰을 찾을 수 없습니다.");
-    }
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.jeonjueats.controller;
 
+import com.jeonjueats.dto.SearchSuggestionDto;
 import com.jeonjueats.dto.StoreResponseDto;
+import com.jeonjueats.dto.TrendingKeywordDto;
 import com.jeonjueats.service.StoreService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +20,8 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "검색 API", description = "가게 및 메뉴 통합 검색 API (인증 불필요)")
 @RestController
 @RequestMapping("/api/search")
@@ -121,10 +125,85 @@ public class SearchController {
         }
         
         Page<StoreResponseDto> searchResults = storeService.searchStores(keyword.trim(), pageable);
+
+        // 결과가 있는 검색어만 인기 검색어 집계에 반영 (오타/무의미한 검색어 제외)
+        if (searchResults.getTotalElements() > 0) {
+            storeService.recordSearchKeyword(keyword);
+        }
         
         log.info("가게/메뉴 통합 검색 완료 - 키워드: '{}', 결과: {}개 가게", 
                 keyword, searchResults.getTotalElements());
         
         return ResponseEntity.ok(searchResults);
     }
-} 
\ No newline at end of file
+
+    @Operation(
+        summary = "검색어 자동완성",
+        description = "입력 중인 검색어로 시작하는 가게명, 메뉴명, 카테고리명을 인기도(주문 수, 찜 수)순으로 추천합니다. " +
+                      "검색창에 한 글자씩 입력할 때마다 호출하는 용도로, DB 조회 없이 응답합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "자동완성 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "자동완성 결과",
+                    value = """
+                        [
+                          { "text": "치킨", "type": "CATEGORY" },
+                          { "text": "치즈돈까스", "type": "MENU" },
+                          { "text": "치킨플러스 전주점", "type": "STORE" }
+                        ]
+                        """
+                )
+            )
+        )
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SearchSuggestionDto>> suggestKeywords(
+            @Parameter(description = "입력 중인 검색어", required = true, example = "치")
+            @RequestParam("keyword") String keyword,
+            @Parameter(description = "최대 추천 개수 (1~10)", example = "10")
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+
+        return ResponseEntity.ok(storeService.suggestKeywords(keyword.trim(), size));
+    }
+
+    @Operation(
+        summary = "실시간 인기 검색어",
+        description = "최근 1시간 동안 많이 검색된 검색어를 순위대로 반환합니다. " +
+                      "검색 수는 고정 크기 메모리 구조로 추정한 값입니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "인기 검색어 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "인기 검색어",
+                    value = """
+                        [
+                          { "rank": 1, "keyword": "치킨", "searchCount": 152 },
+                          { "rank": 2, "keyword": "피자", "searchCount": 98 },
+                          { "rank": 3, "keyword": "비빔밥", "searchCount": 61 }
+                        ]
+                        """
+                )
+            )
+        )
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingKeywordDto>> getTrendingKeywords(
+            @Parameter(description = "최대 개수 (1~20)", example = "10")
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(storeService.getTrendingKeywords(Math.max(1, Math.min(size, 20))));
+    }
+}
@@ -1,5 +1,9 @@
 package com.jeonjueats.controller;
 
+import com.jeonjueats.cache.CatalogVersion;
+import com.jeonjueats.cache.ConditionalGet;
+import com.jeonjueats.cache.StoreDetailResponseCache;
+import com.jeonjueats.dto.CursorPageResponseDto;
 import com.jeonjueats.dto.StoreDetailResponseDto;
 import com.jeonjueats.dto.StoreResponseDto;
 import com.jeonjueats.service.StoreService;
@@ -11,12 +15,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,10 +35,12 @@ import org.springframework.web.bind.annotation.*;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreDetailResponseCache storeDetailResponseCache;
 
     @Operation(
         summary = "가게 목록 조회",
-        description = "영업중인 가게 목록을 조회합니다. 카테고리별 필터링과 페이징을 지원합니다.",
+        description = "영업중인 가게 목록을 조회합니다. 카테고리별 필터링과 페이징을 지원합니다. " +
+                      "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.",
         parameters = {
             @Parameter(
                 name = "categoryId",
@@ -109,27 +118,103 @@ public class StoreController {
                         """
                 )
             )
-        )
+        ),
+        @ApiResponse(responseCode = "304", description = "가게 목록 변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
     public ResponseEntity<Page<StoreResponseDto>> getStores(
             @Parameter(hidden = true) @RequestParam(value = "categoryId", required = false) Long categoryId,
             @Parameter(hidden = true) @PageableDefault(page = 0, size = 10, sort = "createdAt", direction = Sort.Direction.DESC) 
-            Pageable pageable) {
+            Pageable pageable,
+            HttpServletRequest request) {
         
         log.info("가게 목록 조회 요청 - 카테고리 ID: {}, 페이지: {}", categoryId, pageable.getPageNumber());
+
+        // 목록 조회 전에 집계 쿼리로 버전만 확인하여 변경이 없으면 304
+        CatalogVersion version = storeService.getStoreListVersion(categoryId);
+        String notModifiedEtag = ConditionalGet.notModifiedEtag(request, version.etag());
+        if (notModifiedEtag != null) {
+            log.info("가게 목록 변경 없음 (304) - 카테고리 ID: {}", categoryId);
+            return ConditionalGet.notModified(notModifiedEtag);
+        }
         
         Page<StoreResponseDto> stores = storeService.getOpenStores(categoryId, pageable);
         
         log.info("가게 목록 조회 완료 - 총 {}개 가게 (카테고리: {})", 
                 stores.getTotalElements(), categoryId != null ? categoryId : "전체");
         
+        return ConditionalGet.ok(version.etag()).body(stores);
+    }
+
+    @Operation(
+        summary = "가게 목록 조회 (커서 기반)",
+        description = "가게 목록을 최신 등록순으로 커서 기반 조회합니다. 전체 개수를 계산하지 않으므로 페이지가 깊어져도 조회 비용이 같습니다. " +
+                      "첫 요청은 cursor 없이 호출하고, 다음 페이지는 응답의 nextCursor를 그대로 전달합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "가게 목록 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                        {
+                          "content": [
+                            {
+                              "storeId": 1,
+                              "name": "김치찌개 전문점",
+                              "categoryId": 1,
+                              "status": "OPEN"
+                            }
+                          ],
+                          "size": 10,
+                          "hasNext": true,
+                          "nextCursor": "MjAyNS0wNi0yM1QxMDozMDowMHwx"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 커서",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "잘못된 커서",
+                    value = """
+                        {
+                          "code": "INVALID_CURSOR",
+                          "message": "잘못된 커서입니다."
+                        }
+                        """
+                )
+            )
+        )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<StoreResponseDto>> getStoresByCursor(
+            @Parameter(description = "카테고리 ID (생략 시 전체)", example = "1")
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        CursorPageResponseDto<StoreResponseDto> stores = storeService.getStoresByCursor(categoryId, cursor, size);
+
+        log.info("가게 목록 커서 조회 완료 - {}개 가게, 다음 페이지: {} (카테고리: {})",
+                stores.getContent().size(), stores.isHasNext(), categoryId != null ? categoryId : "전체");
+
         return ResponseEntity.ok(stores);
     }
 
     @Operation(
         summary = "가게 상세 정보 조회",
-        description = "특정 가게의 상세 정보와 해당 가게의 모든 메뉴 목록을 조회합니다.",
+        description = "특정 가게의 상세 정보와 해당 가게의 모든 메뉴 목록을 조회합니다. " +
+                      "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 메뉴를 조회하지 않고 304를 반환합니다.",
         parameters = {
             @Parameter(
                 name = "storeId",
@@ -185,6 +270,7 @@ public class StoreController {
                 )
             )
         ),
+        @ApiResponse(responseCode = "304", description = "가게/메뉴 변경 없음 (If-None-Match 일치)"),
         @ApiResponse(
             responseCode = "404",
             description = "가게를 찾을 수 없음",
@@ -225,17 +311,65 @@ public class StoreController {
         )
     })
     @GetMapping("/{storeId}")
-    public ResponseEntity<StoreDetailResponseDto> getStoreDetail(
+    public ResponseEntity<byte[]> getStoreDetail(
             @Parameter(description = "조회할 가게 ID", required = true, example = "1")
-            @PathVariable("storeId") Long storeId) {
+            @PathVariable("storeId") Long storeId,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            String acceptEncoding,
+            HttpServletRequest request) {
         
         log.info("가게 상세 정보 조회 요청 - 가게 ID: {}", storeId);
+
+        // 조건부 요청이면 캐시된 응답 버전(없으면 가게 + 메뉴 집계 쿼리)으로 먼저 304 여부 확인
+        if (ConditionalGet.isConditional(request)) {
+            CatalogVersion version = storeDetailResponseCache.peekVersion(storeId);
+            if (version == null) {
+                version = storeService.getStoreDetailVersion(storeId).orElse(null);
+            }
+            if (version != null) {
+                String notModifiedEtag = ConditionalGet.notModifiedEtag(
+                        request, version.etag(), version.etag("gzip"));
+                if (notModifiedEtag != null) {
+                    log.info("가게 상세 정보 변경 없음 (304) - 가게 ID: {}", storeId);
+                    return ConditionalGet.notModified(notModifiedEtag);
+                }
+            }
+        }
         
-        StoreDetailResponseDto storeDetail = storeService.getStoreDetail(storeId);
-        
-        log.info("가게 상세 정보 조회 완료 - 가게: {}, 메뉴 {}개", 
-                storeDetail.getName(), storeDetail.getMenus().size());
-        
-        return ResponseEntity.ok(storeDetail);
+        // 직렬화된 응답 캐시 적중 시 DB 조회/JSON 변환 없이 바로 응답
+        StoreDetailResponseCache.CachedResponse storeDetail = storeDetailResponseCache.getOrLoad(
+                storeId, () -> storeService.getStoreDetail(storeId));
+        CatalogVersion version = storeDetail.version();
+
+        if (storeDetail.hasGzip() && acceptsGzip(acceptEncoding)) {
+            log.info("가게 상세 정보 조회 완료 - 가게 ID: {}, {}바이트 (gzip)", storeId, storeDetail.gzipped().length);
+            return ConditionalGet.ok(version.etag("gzip"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(storeDetail.gzipped());
+        }
+
+        log.info("가게 상세 정보 조회 완료 - 가게 ID: {}, {}바이트", storeId, storeDetail.json().length);
+        return ConditionalGet.ok(version.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(storeDetail.json());
+    }
+
+    /**
+     * Accept-Encoding 헤더에 gzip이 포함되어 있는지 확인 (q=0으로 거부한 경우 제외)
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
-} 
\ No newline at end of file
+}
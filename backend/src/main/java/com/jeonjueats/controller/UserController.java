@@ -2,7 +2,7 @@ package com.jeonjueats.controller;
 
 import com.jeonjueats.dto.UserProfileDto;
 import com.jeonjueats.dto.UserProfileUpdateRequestDto;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import com.jeonjueats.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,7 +13,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +33,6 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
-    private final JwtUtil jwtUtil;
 
     @Operation(
         summary = "내 정보 조회",
@@ -105,11 +103,8 @@ public class UserController {
     @GetMapping("/me")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_OWNER')")
     public ResponseEntity<?> getMyProfile(
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
         try {
-            // JWT에서 사용자 ID 추출
-            String token = jwtUtil.resolveToken(request);
-            Long userId = jwtUtil.getUserIdFromToken(token);
 
             log.info("현재 인증된 사용자 프로필 조회 요청: userId={}", userId);
 
@@ -259,7 +254,7 @@ public class UserController {
             @Parameter(description = "수정할 프로필 정보", required = true)
             @Valid @RequestBody UserProfileUpdateRequestDto requestDto,
             @Parameter(hidden = true) BindingResult bindingResult,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
 
         log.info("사용자 프로필 수정 API 호출 - 닉네임: {}, 우편번호: {}", requestDto.getNickname(), requestDto.getDefaultZipcode());
 
@@ -277,9 +272,6 @@ public class UserController {
         }
 
         try {
-            // JWT에서 사용자 ID 추출
-            String token = jwtUtil.resolveToken(request);
-            Long userId = jwtUtil.getUserIdFromToken(token);
 
             // 서비스에서 프로필 수정 처리
             UserProfileDto updatedProfile = userService.updateMyProfile(
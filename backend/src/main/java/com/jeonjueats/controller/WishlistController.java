@@ -1,8 +1,9 @@
 package com.jeonjueats.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeonjueats.dto.WishlistResponseDto;
 import com.jeonjueats.dto.WishlistToggleResponseDto;
-import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.CurrentUserId;
 import com.jeonjueats.service.WishlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,16 +14,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @Tag(name = "찜하기 API", description = "가게 찜하기/해제 및 찜 목록 조회 API (JWT 인증 필요)")
 @RestController
@@ -32,7 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class WishlistController {
 
     private final WishlistService wishlistService;
-    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "가게 찜 상태 변경 (토글)",
@@ -112,14 +117,10 @@ public class WishlistController {
     public ResponseEntity<WishlistToggleResponseDto> toggleWishlist(
             @Parameter(description = "찜할 가게 ID", required = true, example = "123")
             @PathVariable Long storeId,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
 
         log.info("찜 토글 API 호출 - 가게 ID: {}", storeId);
 
-        // JWT에서 사용자 ID 추출
-        String token = jwtUtil.resolveToken(request);
-        Long userId = jwtUtil.getUserIdFromToken(token);
-
         // 찜 상태 토글
         WishlistToggleResponseDto response = wishlistService.toggleWishlist(userId, storeId);
 
@@ -207,14 +208,10 @@ public class WishlistController {
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
 
         log.info("찜 목록 조회 API 호출 - 페이지: {}, 크기: {}", page, size);
 
-        // JWT에서 사용자 ID 추출
-        String token = jwtUtil.resolveToken(request);
-        Long userId = jwtUtil.getUserIdFromToken(token);
-
         // 페이징 정보 생성
         Pageable pageable = PageRequest.of(page, size);
 
@@ -224,6 +221,42 @@ public class WishlistController {
         return ResponseEntity.ok(wishlists);
     }
 
+    @Operation(
+        summary = "내 찜 목록 전체 스트리밍 조회",
+        description = "찜한 가게가 많은 사용자를 위해 전체 찜 목록을 NDJSON(한 줄에 하나의 JSON) 형식으로 스트리밍합니다. " +
+                      "각 줄의 형식은 찜 목록 조회 응답의 content 항목과 동일합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "찜 목록 스트리밍 성공",
+            content = @Content(mediaType = "application/x-ndjson")
+        ),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> streamMyWishlists(
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
+
+        log.info("찜 목록 스트리밍 API 호출");
+
+        // 서비스가 키셋 배치마다 짧은 트랜잭션으로 조회하므로 응답을 쓰는 동안에는 DB 커넥션을 점유하지 않음
+        StreamingResponseBody body = outputStream -> wishlistService.streamMyWishlists(userId, wishlist -> {
+            try {
+                objectMapper.writeValue(outputStream, wishlist);
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @Operation(
         summary = "특정 가게 찜 여부 확인",
         description = "현재 사용자가 특정 가게를 찜했는지 여부를 확인합니다."
@@ -291,14 +324,10 @@ public class WishlistController {
     public ResponseEntity<Boolean> getWishlistStatus(
             @Parameter(description = "확인할 가게 ID", required = true, example = "123")
             @PathVariable Long storeId,
-            @Parameter(hidden = true) HttpServletRequest request) {
+            @Parameter(hidden = true) @CurrentUserId Long userId) {
 
         log.info("찜 상태 확인 API 호출 - 가게 ID: {}", storeId);
 
-        // JWT에서 사용자 ID 추출
-        String token = jwtUtil.resolveToken(request);
-        Long userId = jwtUtil.getUserIdFromToken(token);
-
         // 찜 여부 확인
         boolean isWished = wishlistService.isWished(userId, storeId);
 
@@ -0,0 +1,70 @@
+package com.jeonjueats.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * 전체 개수(COUNT) 없이 다음 페이지 커서만 반환하므로 몇 번째 페이지든 조회 비용이 같음
+ */
+@Getter
+@Builder
+public class CursorPageResponseDto<T> {
+
+    /**
+     * 한 페이지 최대 크기
+     */
+    public static final int MAX_SIZE = 50;
+
+    /**
+     * 페이지 내용
+     */
+    private List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 조회용 커서 (다음 페이지가 없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 요청 크기를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1건으로 조회한 결과로 응답 생성 (초과분 1건은 다음 페이지 존재 여부 판단용)
+     *
+     * @param rows size + 1건 이하의 조회 결과
+     * @param size 요청 페이지 크기
+     * @param cursorOf 행의 커서 추출 함수
+     * @param mapper 행 → 응답 항목 변환 함수
+     */
+    public static <E, T> CursorPageResponseDto<T> of(List<E> rows, int size,
+                                                     Function<E, KeysetCursor> cursorOf,
+                                                     Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponseDto.<T>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 /**
  * 이미지 업로드 API 응답 DTO
  * 업로드된 이미지의 URL과 기본 정보를 포함
@@ -37,4 +39,10 @@ public class ImageUploadResponseDto {
      * MIME 타입 (예: image/jpeg, image/png)
      */
     private final String contentType;
+
+    /**
+     * 축소본 URL (너비 → URL, 예: 480 → /api/images/xxx.jpg?w=480)
+     * 업로드 후 비동기로 생성되며, 생성 전에는 원본이 응답됨
+     */
+    private final Map<Integer, String> variantUrls;
 } 
\ No newline at end of file
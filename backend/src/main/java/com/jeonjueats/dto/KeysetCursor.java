@@ -0,0 +1,51 @@
+package com.jeonjueats.dto;
+
+import com.jeonjueats.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 마지막으로 조회한 행의 (생성 일시, ID)를 담아 다음 페이지를 "이 행보다 오래된 행"으로 조회
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * 첫 페이지 조회용 커서 (모든 행보다 최신)
+     */
+    private static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서 문자열 해석 (없으면 첫 페이지)
+     *
+     * @throws InvalidCursorException 잘못된 커서 문자열인 경우 (400 응답)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 문자열 생성
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
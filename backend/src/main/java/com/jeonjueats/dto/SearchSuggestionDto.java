@@ -0,0 +1,24 @@
+package com.jeonjueats.dto;
+
+import com.jeonjueats.search.SuggestionType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색어 자동완성 응답 DTO
+ * GET /api/search/suggest 응답 항목에 사용
+ */
+@Getter
+@Builder
+public class SearchSuggestionDto {
+
+    /**
+     * 추천 검색어 (가게명/메뉴명/카테고리명 원문)
+     */
+    private String text;
+
+    /**
+     * 검색어 종류 (STORE, MENU, CATEGORY)
+     */
+    private SuggestionType type;
+}
@@ -0,0 +1,28 @@
+package com.jeonjueats.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실시간 인기 검색어 응답 DTO
+ * GET /api/search/trending 응답 항목에 사용
+ */
+@Getter
+@Builder
+public class TrendingKeywordDto {
+
+    /**
+     * 순위 (1부터 시작)
+     */
+    private int rank;
+
+    /**
+     * 검색어
+     */
+    private String keyword;
+
+    /**
+     * 최근 1시간 추정 검색 수
+     */
+    private long searchCount;
+}
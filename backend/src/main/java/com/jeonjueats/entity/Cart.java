@@ -1,5 +1,6 @@
 package com.jeonjueats.entity;
 
+import com.jeonjueats.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -28,7 +29,7 @@ import java.time.LocalDateTime;
 public class Cart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "cart_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.jeonjueats.entity;
 
+import com.jeonjueats.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -33,7 +34,7 @@ import java.time.LocalDateTime;
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "cart_item_id")
     private Long id;
 
@@ -1,10 +1,13 @@
 package com.jeonjueats.entity;
 
+import com.jeonjueats.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
@@ -22,18 +25,21 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "menu", indexes = {
     @Index(name = "idx_menu_store", columnList = "store_id"),
-    @Index(name = "idx_menu_name", columnList = "name")
+    @Index(name = "idx_menu_name", columnList = "name"),
+    @Index(name = "idx_menu_updated_at", columnList = "updated_at")
 })
 @EntityListeners(AuditingEntityListener.class)
 @SQLDelete(sql = "UPDATE menu SET is_deleted = true WHERE menu_id = ?")
 @SQLRestriction("is_deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")  // 2차 캐시 (참조 데이터)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Menu {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "menu_id")
     private Long id;
 
@@ -163,6 +169,7 @@ public class Menu {
 
     /**
      * 논리적 삭제 (soft delete)
+     * deleted_at은 여기서, updated_at은 Auditing이 애플리케이션 시계로 기록한다.
      */
     public void delete() {
         this.isDeleted = true;
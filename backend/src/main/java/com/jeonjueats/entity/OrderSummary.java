@@ -0,0 +1,157 @@
+package com.jeonjueats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 요약 읽기 모델 엔티티
+ * 주문 목록 화면(내 주문 목록, 사장님 주문 목록)에 필요한 정보를 주문 생성 시점에 비정규화하여 저장
+ * 목록 조회 시 주문 아이템/가게/메뉴를 행마다 추가 조회하지 않고 단일 인덱스 범위 스캔으로 처리
+ * 주문 생성 시 기록되고, 주문 상태 변경 시 함께 갱신됨
+ */
+@Entity
+@Table(name = "order_summary", indexes = {
+    @Index(name = "idx_order_summary_user_ordered", columnList = "user_id, ordered_at, order_id"),
+    @Index(name = "idx_order_summary_store_ordered", columnList = "store_id, ordered_at, order_id"),
+    @Index(name = "idx_order_summary_store_status_ordered", columnList = "store_id, status, ordered_at, order_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId; // 주문 ID (orders.id와 동일)
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 주문 사용자 ID
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId; // 주문된 가게 ID
+
+    /**
+     * 주문 시점 가게 정보 스냅샷
+     */
+    @Column(name = "store_name", nullable = false, length = 100)
+    private String storeName;
+
+    @Column(name = "store_image_url", length = 255)
+    private String storeImageUrl;
+
+    /**
+     * 주문 아이템 요약
+     */
+    @Column(name = "representative_menu_name", length = 60)
+    private String representativeMenuName; // 대표(첫 번째) 메뉴명
+
+    @Column(name = "total_menu_count", nullable = false)
+    private Integer totalMenuCount; // 주문 아이템 종류 수
+
+    @Column(name = "total_quantity", nullable = false)
+    private Integer totalQuantity; // 주문 아이템 총 수량
+
+    /**
+     * 금액 정보
+     */
+    @Column(name = "subtotal_amount", nullable = false, precision = 12, scale = 0)
+    private BigDecimal subtotalAmount;
+
+    @Column(name = "delivery_fee_at_order", nullable = false, precision = 10, scale = 0)
+    private BigDecimal deliveryFeeAtOrder;
+
+    @Column(name = "total_price", nullable = false, precision = 12, scale = 0)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status; // 주문 상태 (상태 변경 시 갱신)
+
+    /**
+     * 사장님 주문 목록용 배달 정보
+     */
+    @Column(name = "delivery_address1", nullable = false, length = 255)
+    private String deliveryAddress1;
+
+    @Column(name = "delivery_address2", length = 255)
+    private String deliveryAddress2;
+
+    @Column(columnDefinition = "TEXT")
+    private String requests;
+
+    @Column(name = "ordered_at", nullable = false)
+    private LocalDateTime orderedAt; // 주문 생성 일시 (orders.created_at과 동일)
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 요약 정보 수정 일시
+
+    /**
+     * 신규 엔티티 여부 (ID를 직접 할당하므로 save 시 불필요한 SELECT 방지용)
+     */
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 생성자
+     * 주문 엔티티와 주문 시점 가게/아이템 요약 정보로 읽기 모델 생성
+     */
+    public OrderSummary(Orders order, Store store, String representativeMenuName,
+                        int totalMenuCount, int totalQuantity) {
+        this.orderId = order.getId();
+        this.userId = order.getUserId();
+        this.storeId = order.getStoreId();
+        this.storeName = store != null ? store.getName() : "삭제된 가게";
+        this.storeImageUrl = store != null ? store.getStoreImageUrl() : null;
+        this.representativeMenuName = representativeMenuName;
+        this.totalMenuCount = totalMenuCount;
+        this.totalQuantity = totalQuantity;
+        this.subtotalAmount = order.getSubtotalAmount();
+        this.deliveryFeeAtOrder = order.getDeliveryFeeAtOrder();
+        this.totalPrice = order.getTotalPrice();
+        this.status = order.getStatus();
+        this.deliveryAddress1 = order.getDeliveryAddress1();
+        this.deliveryAddress2 = order.getDeliveryAddress2();
+        this.requests = order.getRequests();
+        this.orderedAt = order.getCreatedAt();
+    }
+
+    @Override
+    public Long getId() {
+        return this.orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 대표 메뉴 표시명 반환 (예: "후라이드 치킨 외 2건")
+     */
+    public String getRepresentativeMenuDisplayName() {
+        if (this.totalMenuCount == null || this.totalMenuCount == 0 || this.representativeMenuName == null) {
+            return "";
+        }
+        if (this.totalMenuCount == 1) {
+            return this.representativeMenuName;
+        }
+        return this.representativeMenuName + " 외 " + (this.totalMenuCount - 1) + "건";
+    }
+}
@@ -1,10 +1,13 @@
 package com.jeonjueats.entity;
 
+import com.jeonjueats.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
@@ -23,18 +26,23 @@ import java.time.LocalDateTime;
 @Table(name = "store", indexes = {
     @Index(name = "idx_store_owner", columnList = "owner_id"),
     @Index(name = "idx_store_category", columnList = "category_id"),
-    @Index(name = "idx_store_name", columnList = "name")
+    @Index(name = "idx_store_name", columnList = "name"),
+    @Index(name = "idx_store_deleted_created", columnList = "is_deleted, created_at, store_id"),
+    @Index(name = "idx_store_category_deleted_created", columnList = "category_id, is_deleted, created_at, store_id"),
+    @Index(name = "idx_store_updated_at", columnList = "updated_at")
 })
 @EntityListeners(AuditingEntityListener.class)
 @SQLDelete(sql = "UPDATE store SET is_deleted = true WHERE store_id = ?")
 @SQLRestriction("is_deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")  // 2차 캐시 (참조 데이터)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Store {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "store_id")
     private Long id;
 
@@ -168,6 +176,7 @@ public class Store {
 
     /**
      * 논리적 삭제 (soft delete)
+     * deleted_at은 여기서, updated_at은 Auditing이 애플리케이션 시계로 기록한다.
      */
     public void delete() {
         this.isDeleted = true;
@@ -1,5 +1,6 @@
 package com.jeonjueats.entity;
 
+import com.jeonjueats.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
 @Table(name = "wishlist", 
     indexes = {
         @Index(name = "idx_wishlist_user", columnList = "user_id"),
+        @Index(name = "idx_wishlist_user_created", columnList = "user_id, created_at"),
         @Index(name = "idx_wishlist_store", columnList = "store_id")
     },
     uniqueConstraints = {
@@ -32,7 +34,7 @@ import java.time.LocalDateTime;
 public class Wishlist {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "wishlist_id")
     private Long id;
 
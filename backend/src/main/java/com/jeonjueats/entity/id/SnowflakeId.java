@@ -0,0 +1,18 @@
+package com.jeonjueats.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간 순서 ID 자동 할당 (SnowflakeIdGenerator)
+ * @GeneratedValue(strategy = GenerationType.IDENTITY) 대신 사용하며, 저장 시점에 DB 왕복 없이 ID가 채워짐
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnowflakeId {
+}
@@ -0,0 +1,125 @@
+package com.jeonjueats.entity.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 순서 64비트(실사용 53비트) ID 생성기 (Snowflake 방식)
+ * DB 왕복 없이 ID를 미리 할당하므로 IDENTITY 전략과 달리 Hibernate INSERT 배치가 동작함
+ *
+ * 비트 구성 (JavaScript Number로도 정확히 표현되도록 2^53 미만):
+ * - 41비트: 기준 시각(2025-01-01) 이후 경과 밀리초 (약 69년)
+ * - 5비트: 노드 ID (0~31, 서버마다 다르게 설정)
+ * - 7비트: 같은 밀리초 내 순번 (노드당 초당 최대 128,000개)
+ *
+ * 노드 ID는 IdGeneratorConfig에서 기동 시 설정 (app.id.node-id)
+ * 시계가 조금(100ms 이하) 뒤로 가면 따라잡을 때까지 잠들어 대기하고, 그보다 크게 어긋나면 ID 발급을 거부
+ * 대기 중에는 CPU를 쓰지 않으며, synchronized 대신 ReentrantLock을 사용해 가상 스레드가 캐리어 스레드를 붙잡지 않음
+ */
+@Slf4j
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_CLOCK_BACKWARD_MILLIS = 100L;
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile long nodeId = -1;
+
+    private static long lastTimestamp = -1;
+    private static long sequence;
+
+    /**
+     * 노드 ID 설정 (여러 서버에서 ID가 겹치지 않도록 서버마다 다른 값 사용)
+     *
+     * @param id 0 ~ 31
+     */
+    public static void configure(long id) {
+        if (id < 0 || id > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + id);
+        }
+        nodeId = id;
+    }
+
+    /**
+     * 다음 ID 발급
+     */
+    public static long nextId() {
+        if (nodeId < 0) {
+            throw new IllegalStateException("ID 생성기 노드 ID가 설정되지 않았습니다.");
+        }
+        LOCK.lock();
+        try {
+            return generate();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static long generate() {
+        long timestamp = currentTimestamp();
+        if (timestamp < lastTimestamp) {
+            long backward = lastTimestamp - timestamp;
+            if (backward > MAX_CLOCK_BACKWARD_MILLIS) {
+                throw new IllegalStateException("시스템 시계가 " + backward + "ms 뒤로 이동하여 ID를 발급할 수 없습니다.");
+            }
+            log.warn("시스템 시계가 {}ms 뒤로 이동 - 따라잡을 때까지 대기", backward);
+            timestamp = waitUntilAfter(lastTimestamp - 1);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitUntilAfter(lastTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /**
+     * 현재 시각이 주어진 시각을 지날 때까지 남은 시간만큼 잠들어 대기 (최대 MAX_CLOCK_BACKWARD_MILLIS + 1ms)
+     */
+    private static long waitUntilAfter(long timestamp) {
+        long current = currentTimestamp();
+        while (current <= timestamp) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(timestamp - current + 1));
+            current = currentTimestamp();
+        }
+        return current;
+    }
+
+    private static long currentTimestamp() {
+        return System.currentTimeMillis() - EPOCH_MILLIS;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
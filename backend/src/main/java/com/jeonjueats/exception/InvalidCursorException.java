@@ -0,0 +1,14 @@
+package com.jeonjueats.exception;
+
+/**
+ * 커서 페이지네이션의 cursor 값을 해석할 수 없을 때 발생하는 예외
+ * HTTP 400 Bad Request ({code: INVALID_CURSOR, message})로 응답합니다.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public static final String CODE = "INVALID_CURSOR";
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
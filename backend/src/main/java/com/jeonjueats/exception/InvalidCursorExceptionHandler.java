@@ -0,0 +1,28 @@
+package com.jeonjueats.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 잘못된 커서 예외 처리
+ * 가게/주문/사장님 주문 커서 조회 API가 공통으로 사용하므로 컨트롤러마다 처리하지 않고 한 곳에서 400으로 변환
+ */
+@Slf4j
+@RestControllerAdvice
+public class InvalidCursorExceptionHandler {
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException e) {
+        log.warn("잘못된 커서 요청: {}", e.getMessage());
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("code", InvalidCursorException.CODE);
+        errorResponse.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jeonjueats.image;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JPEG EXIF 방향(Orientation, 태그 0x0112) 읽기/적용
+ * ImageIO는 EXIF 방향을 무시하므로 휴대폰 사진의 축소본이 누워서 생성되는 것을 막기 위해 사용
+ * - 스캔 데이터(SOS) 전의 마커 세그먼트만 읽음
+ * - 방향 정보가 없거나 해석할 수 없으면 1(정방향)
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG 스트림에서 방향 값(1~8) 읽기
+     */
+    static int read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            if (data.readUnsignedShort() != 0xFFD8) {
+                return NORMAL; // JPEG 아님
+            }
+            while (true) {
+                int marker = data.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return NORMAL; // 잘못된 마커이거나 스캔 데이터 시작 (EXIF 없음)
+                }
+                int length = data.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+                if (marker != 0xFFE1) {
+                    data.skipNBytes(length);
+                    continue;
+                }
+                byte[] segment = new byte[length];
+                data.readFully(segment);
+                int orientation = parseApp1(segment);
+                if (orientation != 0) {
+                    return orientation;
+                }
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * APP1 세그먼트의 IFD0에서 방향 태그 검색 (EXIF가 아니거나 태그가 없으면 0)
+     */
+    private static int parseApp1(byte[] segment) {
+        if (segment.length < EXIF_HEADER.length + 8) {
+            return 0;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (segment[i] != EXIF_HEADER[i]) {
+                return 0; // XMP 등 다른 APP1
+            }
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 0;
+        }
+        long ifdOffset = Integer.toUnsignedLong(tiff.getInt(4));
+        if (ifdOffset + 2 > tiff.limit()) {
+            return 0;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort((int) ifdOffset));
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 방향 값에 맞게 회전/반전한 이미지 (1이면 그대로 반환)
+     */
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 역전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, w); // 반시계 방향 90도 (8)
+        };
+        boolean swap = orientation >= 5;
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+}
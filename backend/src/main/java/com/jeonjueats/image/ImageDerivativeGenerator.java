@@ -0,0 +1,297 @@
+package com.jeonjueats.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 파생본(고정 너비 축소본) 생성기
+ * 업로드 요청은 원본 저장 후 바로 반환하고, 축소본은 전용 스레드 풀에서 생성
+ * - 스레드 수와 대기열 크기가 고정되어 업로드가 몰려도 디코딩 메모리/CPU 사용량이 제한됨
+ * - 대기열이 가득 차면 생성을 건너뜀 (?w= 요청은 원본으로 대체되므로 기능상 문제 없음)
+ * - 원본보다 넓은 너비는 생성하지 않음 (확대 없음)
+ * - 디코딩 전 헤더의 가로/세로를 확인해 픽셀 수 상한을 넘는 이미지는 건너뜀 (압축 폭탄 방지)
+ * - JPEG의 EXIF 방향을 적용한 뒤 축소 (축소본에는 EXIF가 없으므로)
+ * - 임시 파일에 쓴 뒤 이동하므로 생성 중인 파일이 응답되지 않음
+ * 파생본 파일명: {원본 이름}_w{너비}.{확장자} (예: 20250623103000_ab12cd34_w480.jpg)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private static final String METRIC_PREFIX = "image.derivatives";
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final MeterRegistry meterRegistry;
+    private final ImageMetadataCache imageMetadataCache;
+
+    /**
+     * 생성할 축소본 너비 목록 (px)
+     */
+    @Value("${app.image.derivatives.widths:160,480,1080}")
+    private int[] widths;
+
+    /**
+     * 축소본 생성 스레드 수
+     */
+    @Value("${app.image.derivatives.worker-threads:2}")
+    private int workerThreads;
+
+    /**
+     * 생성 대기열 크기 (초과 시 생성 생략)
+     */
+    @Value("${app.image.derivatives.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * 축소본을 생성할 원본의 최대 픽셀 수 (가로 x 세로, 초과 시 생성 생략)
+     */
+    @Value("${app.image.derivatives.max-pixels:40000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor executor;
+
+    private Counter generatedCounter;
+    private Counter rejectedCounter;
+    private Counter oversizedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        widths = Arrays.stream(widths).filter(width -> width > 0).distinct().sorted().toArray();
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        generatedCounter = Counter.builder(METRIC_PREFIX + ".generated")
+                .description("생성된 축소본 수").register(meterRegistry);
+        rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열 초과로 생성을 건너뛴 원본 수").register(meterRegistry);
+        oversizedCounter = Counter.builder(METRIC_PREFIX + ".oversized")
+                .description("픽셀 수 상한 초과로 생성을 건너뛴 원본 수").register(meterRegistry);
+        failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .description("축소본 생성에 실패한 원본 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+                .description("축소본 생성 대기 수").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 축소본 생성 예약 (즉시 반환)
+     *
+     * @param original 저장된 원본 이미지 경로
+     */
+    public void submit(Path original) {
+        try {
+            executor.execute(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("축소본 생성 대기열 초과로 생략 - 파일: {}, 대기: {}건", original.getFileName(), executor.getQueue().size());
+        }
+    }
+
+    /**
+     * 축소본 URL 목록 (너비 → URL)
+     * 생성 전이거나 원본보다 넓은 너비는 원본이 응답됨
+     *
+     * @param imageUrl 원본 이미지 URL
+     */
+    public Map<Integer, String> variantUrls(String imageUrl) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int width : widths) {
+            urls.put(width, imageUrl + "?w=" + width);
+        }
+        return urls;
+    }
+
+    /**
+     * 요청 너비에 맞는 축소본 너비 선택 (요청 너비 이상인 가장 작은 너비)
+     *
+     * @param requestedWidth ?w= 파라미터 값
+     * @return 축소본 너비 (요청 너비가 가장 큰 축소본보다 크면 -1, 원본 사용)
+     */
+    public int selectWidth(int requestedWidth) {
+        for (int width : widths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 축소본 파일명 (예: abc.jpg, 480 → abc_w480.jpg)
+     */
+    public static String variantFilename(String filename, int width) {
+        int dot = filename.lastIndexOf('.');
+        if (dot <= 0) {
+            return filename + "_w" + width;
+        }
+        return filename.substring(0, dot) + "_w" + width + filename.substring(dot);
+    }
+
+    private void generate(Path original) {
+        try {
+            String filename = original.getFileName().toString();
+            String format = filename.toLowerCase().endsWith(".png") ? "png" : "jpeg";
+            BufferedImage source = decode(original);
+            if (source == null) {
+                return;
+            }
+            if ("jpeg".equals(format)) {
+                try (InputStream in = Files.newInputStream(original)) {
+                    source = ExifOrientation.apply(source, ExifOrientation.read(in));
+                }
+            }
+
+            for (int width : widths) {
+                if (width >= source.getWidth()) {
+                    break; // 확대하지 않음 (원본으로 응답)
+                }
+                BufferedImage resized = resize(source, width, format);
+                Path variant = original.resolveSibling(variantFilename(filename, width));
+                write(resized, format, variant);
+                imageMetadataCache.evict(variant); // 없는 파일로 기억된 항목을 지워 다음 요청부터 축소본으로 응답
+                generatedCounter.increment();
+            }
+            log.debug("축소본 생성 완료 - 파일: {}, 원본 너비: {}", filename, source.getWidth());
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("축소본 생성 실패 - 파일: {}, 오류: {}", original.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 헤더에서 가로/세로를 먼저 읽고, 픽셀 수 상한 이내일 때만 디코딩
+     *
+     * @return 디코딩한 이미지 (지원하지 않거나 상한을 넘으면 null)
+     */
+    private BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.warn("축소본 생성 불가 - 지원하지 않는 이미지: {}", original.getFileName());
+                failedCounter.increment();
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    oversizedCounter.increment();
+                    log.warn("축소본 생성 생략 - 픽셀 수 상한 초과: {} ({}x{})",
+                            original.getFileName(), reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 단계적 축소 (절반씩 줄인 뒤 목표 너비로 보간)
+     * 한 번에 크게 줄일 때 생기는 계단 현상을 줄임
+     */
+    private static BufferedImage resize(BufferedImage source, int targetWidth, String format) {
+        int imageType = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            boolean lastStep = width / 2 <= targetWidth;
+            width = lastStep ? targetWidth : width / 2;
+            height = lastStep ? targetHeight : height / 2;
+            BufferedImage step = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width != targetWidth);
+        return current;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 최종 경로로 이동
+     */
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".derivative-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp);
+                 ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+                if (!writers.hasNext()) {
+                    throw new IOException("이미지 인코더 없음: " + format);
+                }
+                ImageWriter writer = writers.next();
+                try {
+                    ImageWriteParam param = writer.getDefaultWriteParam();
+                    if ("jpeg".equals(format)) {
+                        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                        param.setCompressionQuality(JPEG_QUALITY);
+                    }
+                    writer.setOutput(imageOut);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.jeonjueats.image;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 파일 응답기 (/api/images/**)
+ * - 메타데이터 캐시로 헤더를 만들고, 304 응답은 파일을 열지 않고 처리
+ * - 본문은 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 전송하여 JVM 힙으로 복사하지 않음
+ * - 단일 바이트 범위 요청(Range / If-Range) 지원 (여러 범위 요청은 전체 응답)
+ * - ?w= 요청은 해당 너비의 축소본으로 응답 (없으면 원본)
+ * 캐시 정책: 내용 주소 방식 파일은 1년 immutable, 축소본 대신 원본으로 응답한 경우 5분, 기존 방식 파일은 1시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageFileServer {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl VARIANT_PENDING = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+    private static final CacheControl LEGACY = CacheControl.maxAge(1, TimeUnit.HOURS);
+
+    // Tomcat sendfile 요청 속성 (DefaultServlet과 같은 방식)
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024; // 작은 파일은 직접 쓰는 편이 빠름
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final ImageMetadataCache imageMetadataCache;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+
+    /**
+     * 이미지 응답
+     *
+     * @param path images 디렉토리 기준 상대 경로
+     * @param requestedWidth ?w= 파라미터 값 (null이면 원본)
+     */
+    public void serve(String path, Integer requestedWidth, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        int width = (requestedWidth != null && requestedWidth > 0)
+                ? imageDerivativeGenerator.selectWidth(requestedWidth)
+                : -1;
+        Located located = width > 0 ? locate(ImageDerivativeGenerator.variantFilename(path, width)) : null;
+        boolean variantPending = false;
+        if (located == null) {
+            located = locate(path);
+            variantPending = width > 0;
+        }
+        if (located == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String servedPath = located.path();
+        ImageMetadataCache.ImageMetadata image = located.image();
+
+        CacheControl cacheControl = !image.immutable() ? LEGACY : variantPending ? VARIANT_PENDING : IMMUTABLE;
+        response.setHeader(HttpHeaders.ETAG, image.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, image.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, image)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = image.length();
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, image)) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range != null) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(image.contentType().toString());
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // 서블릿 반환 후 Tomcat이 커널 sendfile로 전송 (메타데이터 캐시의 정규화된 절대 경로 사용)
+            // 캐시 적중 시 파일 시스템을 다시 확인하지 않음: 내용 주소 방식 파일은 바뀌지 않고,
+            // 기존 방식 파일은 메타데이터 캐시의 재확인 주기로 반영됨
+            request.setAttribute(SENDFILE_FILENAME_ATTR, image.path().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break; // 파일이 줄어든 경우
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        } catch (NoSuchFileException e) {
+            notFound(servedPath, response);
+        }
+    }
+
+    /**
+     * 메타데이터 캐시 이후 파일이 삭제된 경우 캐시를 비우고 404 응답
+     */
+    private void notFound(String servedPath, HttpServletResponse response) throws IOException {
+        imageMetadataCache.evict(servedPath);
+        log.warn("이미지 파일 없음 - 경로: {}", servedPath);
+        if (!response.isCommitted()) {
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 이미지 찾기 (샤딩 이전의 평면 경로 URL이면 샤딩 경로에서도 찾음)
+     *
+     * @return 찾은 경로와 메타데이터 (없으면 null)
+     */
+    private Located locate(String path) {
+        ImageMetadataCache.ImageMetadata image = imageMetadataCache.get(path);
+        if (image != null) {
+            return new Located(path, image);
+        }
+        if (path.isEmpty() || path.indexOf('/') >= 0) {
+            return null;
+        }
+        String shardedPath = ImageStorage.shardedPath(path);
+        image = imageMetadataCache.get(shardedPath);
+        return image != null ? new Located(shardedPath, image) : null;
+    }
+
+    /**
+     * 조건부 요청 판단 (If-None-Match 우선, 없으면 If-Modified-Since)
+     */
+    private static boolean isNotModified(HttpServletRequest request, ImageMetadataCache.ImageMetadata image) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String requested : ifNoneMatch.split(",")) {
+                String tag = requested.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2); // If-None-Match는 약한 비교
+                }
+                if (tag.equals("*") || tag.equals(image.etag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && image.lastModified() / 1000 * 1000 <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range가 없거나 현재 파일과 일치하면 true (일치하지 않으면 전체 응답)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, ImageMetadataCache.ImageMetadata image) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(image.etag()); // If-Range는 강한 비교
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && image.lastModified() / 1000 * 1000 == date;
+    }
+
+    /**
+     * 단일 바이트 범위 파싱
+     *
+     * @return {시작, 끝(포함)}, 범위를 만족할 수 없으면 UNSATISFIABLE, 여러 범위/잘못된 형식이면 null (전체 응답)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                // 마지막 N바이트 (bytes=-500)
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, length - suffixLength), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, Math.min(end, length - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1; // 날짜 형식이 잘못된 헤더는 무시
+        }
+    }
+
+    private record Located(String path, ImageMetadataCache.ImageMetadata image) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.jeonjueats.image;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미지 파일 메타데이터 캐시
+ * 이미지 응답에 필요한 정보(경로, 크기, 수정 시각, ETag, Content-Type)를 메모리에 보관하여
+ * 요청마다 파일 시스템을 조회(stat)하지 않도록 함
+ * - 내용 주소 방식 파일(SHA-256 파일명): 내용이 바뀌지 않으므로 한 번 읽은 정보를 계속 사용, ETag는 파일명의 다이제스트
+ * - 기존 방식 파일: 일정 주기마다 다시 확인하고, 크기/수정 시각이 바뀐 경우에만 다이제스트를 다시 계산
+ * - 없는 파일도 짧은 시간(negative-ttl) 기억하여, 없는 축소본(?w=)이나 평면 경로 URL 요청마다 조회하지 않음
+ *   (축소본 생성기/샤딩 이전은 파일을 만든 뒤 evict로 바로 반영)
+ * - 경로는 심볼릭 링크를 푼 절대 경로로 보관 (sendfile에 그대로 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageMetadataCache {
+
+    private final ImageStorage imageStorage;
+
+    /**
+     * 캐시에 보관할 최대 파일 수
+     */
+    @Value("${app.image.serving.metadata-cache-size:10000}")
+    private int maxSize;
+
+    /**
+     * 기존 방식 파일의 메타데이터 재확인 주기
+     */
+    @Value("${app.image.serving.revalidate-interval:60s}")
+    private Duration revalidateInterval;
+
+    /**
+     * 없는 파일을 기억할 시간
+     */
+    @Value("${app.image.serving.negative-ttl:10s}")
+    private Duration negativeTtl;
+
+    private final Map<String, ImageMetadata> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> misses = new ConcurrentHashMap<>(); // 상대 경로 → 만료 시각
+    private Path baseDirectory;
+
+    @PostConstruct
+    void init() {
+        try {
+            baseDirectory = imageStorage.imageDirectory().toAbsolutePath().normalize();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이미지 메타데이터 조회
+     *
+     * @param relativePath images 디렉토리 기준 상대 경로 (예: abc.jpg, menus/chicken/a.jpg)
+     * @return 메타데이터 (파일이 없거나 디렉토리 밖 경로면 null)
+     */
+    public ImageMetadata get(String relativePath) {
+        long now = System.currentTimeMillis();
+        ImageMetadata cached = entries.get(relativePath);
+        if (cached != null && (cached.immutable() || now - cached.checkedAt() < revalidateInterval.toMillis())) {
+            return cached;
+        }
+
+        if (cached == null) {
+            Long missExpiresAt = misses.get(relativePath);
+            if (missExpiresAt != null) {
+                if (now < missExpiresAt) {
+                    return null;
+                }
+                misses.remove(relativePath, missExpiresAt);
+            }
+        }
+
+        ImageMetadata loaded = load(relativePath, cached, now);
+        if (loaded == null) {
+            entries.remove(relativePath);
+            if (negativeTtl.toMillis() > 0) {
+                trim(misses);
+                misses.put(relativePath, now + negativeTtl.toMillis());
+            }
+            return null;
+        }
+        trim(entries);
+        entries.put(relativePath, loaded);
+        return loaded;
+    }
+
+    /**
+     * 캐시 항목 제거 (응답 중 파일이 사라졌거나 새 파일이 생긴 경우)
+     */
+    public void evict(String relativePath) {
+        entries.remove(relativePath);
+        misses.remove(relativePath);
+    }
+
+    /**
+     * 캐시 항목 제거 (파일 경로 기준, images 디렉토리 밖이면 무시)
+     */
+    public void evict(Path file) {
+        Path path = file.toAbsolutePath().normalize();
+        if (path.startsWith(baseDirectory)) {
+            evict(baseDirectory.relativize(path).toString().replace('\\', '/'));
+        }
+    }
+
+    private ImageMetadata load(String relativePath, ImageMetadata previous, long now) {
+        Path path = resolve(relativePath);
+        if (path == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            String filename = path.getFileName().toString();
+            long length = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            boolean immutable = ImageStorage.isContentAddressed(filename);
+
+            String etag;
+            if (immutable) {
+                etag = "\"" + filename.substring(0, filename.lastIndexOf('.')) + "\"";
+            } else if (previous != null && previous.length() == length && previous.lastModified() == lastModified) {
+                etag = previous.etag();
+            } else {
+                etag = "\"" + digest(path) + "\"";
+            }
+
+            MediaType contentType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            return new ImageMetadata(path.toRealPath(), length, lastModified, etag, contentType, immutable, now);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("이미지 메타데이터 조회 실패 - 경로: {}, 오류: {}", relativePath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 상대 경로를 images 디렉토리 안의 경로로 변환 (디렉토리 밖을 가리키면 null)
+     */
+    private Path resolve(String relativePath) {
+        if (relativePath.isEmpty() || relativePath.startsWith("/") || relativePath.contains("\\")
+                || relativePath.contains("..") || relativePath.indexOf('\0') >= 0) {
+            return null;
+        }
+        Path path = baseDirectory.resolve(relativePath).normalize();
+        return path.startsWith(baseDirectory) ? path : null;
+    }
+
+    /**
+     * 가득 차면 1/10을 임의로 제거
+     */
+    private void trim(Map<String, ?> map) {
+        if (map.size() < maxSize) {
+            return;
+        }
+        int excess = map.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = map.keySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String digest(Path path) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    /**
+     * 이미지 파일 메타데이터
+     *
+     * @param path 파일 경로 (심볼릭 링크를 푼 절대 경로)
+     * @param length 파일 크기 (바이트)
+     * @param lastModified 수정 시각 (epoch 밀리초)
+     * @param etag 강한 ETag (SHA-256 다이제스트, 따옴표 포함)
+     * @param contentType Content-Type
+     * @param immutable 내용 주소 방식 파일 여부 (내용이 바뀌지 않음)
+     * @param checkedAt 파일 시스템에서 확인한 시각
+     */
+    public record ImageMetadata(Path path, long length, long lastModified, String etag,
+                                MediaType contentType, boolean immutable, long checkedAt) {
+    }
+}
@@ -0,0 +1,226 @@
+package com.jeonjueats.image;
+
+import com.jeonjueats.cache.StoreDetailResponseCache;
+import com.jeonjueats.entity.Menu;
+import com.jeonjueats.entity.Store;
+import com.jeonjueats.entity.User;
+import com.jeonjueats.repository.MenuRepository;
+import com.jeonjueats.repository.StoreRepository;
+import com.jeonjueats.repository.UserRepository;
+import com.jeonjueats.search.SearchResultCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 디렉토리 샤딩 이전
+ * 샤딩 도입 이전에 uploads/images 바로 아래 저장된 파일을 두 단계 접두 디렉토리로 옮기고,
+ * 매장/메뉴/사용자의 이미지 URL을 새 경로로 배치 단위 갱신
+ * - 애플리케이션 시작 후 작업 실행기에서 실행 (기동을 막지 않음)
+ * - 옮길 파일/URL이 없으면 아무것도 하지 않으므로 매 기동 시 실행해도 안전 (중단되면 다음 기동 시 이어서 처리)
+ * - 이전 중에도 기존 평면 경로 URL은 ImageFileServer가 샤딩 경로에서 찾아 응답
+ */
+@Slf4j
+@Component
+public class ImageShardMigrator {
+
+    private static final String IMAGE_URL_PREFIX = "/api/images/";
+    private static final String TEMP_FILE_PREFIX = ".upload-";
+
+    private final ImageStorage imageStorage;
+    private final ImageMetadataCache imageMetadataCache;
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final UserRepository userRepository;
+    private final StoreDetailResponseCache storeDetailResponseCache;
+    private final SearchResultCache searchResultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+
+    /**
+     * 기동 시 이전 실행 여부
+     */
+    @Value("${app.image.shard-migration.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 한 트랜잭션에서 URL을 갱신할 엔티티 수
+     */
+    @Value("${app.image.shard-migration.batch-size:500}")
+    private int batchSize;
+
+    public ImageShardMigrator(
+            ImageStorage imageStorage,
+            ImageMetadataCache imageMetadataCache,
+            StoreRepository storeRepository,
+            MenuRepository menuRepository,
+            UserRepository userRepository,
+            StoreDetailResponseCache storeDetailResponseCache,
+            SearchResultCache searchResultCache,
+            TransactionTemplate transactionTemplate,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor) {
+        this.imageStorage = imageStorage;
+        this.imageMetadataCache = imageMetadataCache;
+        this.storeRepository = storeRepository;
+        this.menuRepository = menuRepository;
+        this.userRepository = userRepository;
+        this.storeDetailResponseCache = storeDetailResponseCache;
+        this.searchResultCache = searchResultCache;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInBackground() {
+        if (enabled) {
+            taskExecutor.execute(this::migrate);
+        }
+    }
+
+    /**
+     * 파일 이동 → URL 갱신 순서로 이전 (URL은 파일이 샤딩 경로에 있는 경우에만 갱신)
+     */
+    void migrate() {
+        try {
+            Path directory = imageStorage.imageDirectory();
+            int movedFiles = moveFlatFiles(directory);
+
+            int stores = rewriteUrls(directory, storeRepository::findImageUrlBatch,
+                    Store::getId, Store::getStoreImageUrl, (store, url) -> {
+                        store.updateStoreImage(url);
+                        storeDetailResponseCache.invalidate(store.getId());
+                    });
+            int menus = rewriteUrls(directory, menuRepository::findImageUrlBatch,
+                    Menu::getId, Menu::getMenuImageUrl, (menu, url) -> {
+                        menu.updateMenuImage(url);
+                        storeDetailResponseCache.invalidate(menu.getStoreId());
+                    });
+            int users = rewriteUrls(directory, userRepository::findImageUrlBatch,
+                    User::getId, User::getProfileImageUrl, User::updateProfileImage);
+            if (stores > 0) {
+                searchResultCache.invalidateAll(); // 캐시된 검색 결과의 매장 이미지 URL 교체
+            }
+
+            if (movedFiles + stores + menus + users > 0) {
+                log.info("이미지 디렉토리 샤딩 이전 완료 - 파일: {}개, 매장: {}건, 메뉴: {}건, 사용자: {}건",
+                        movedFiles, stores, menus, users);
+            }
+        } catch (Exception e) {
+            // 이전 실패가 서비스에 영향을 주지 않도록 로그만 남김 (다음 기동 시 재시도)
+            log.error("이미지 디렉토리 샤딩 이전 중 오류 발생 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * images 디렉토리 바로 아래의 파일(원본, 축소본)을 샤딩 경로로 이동
+     * 내용 주소 방식 파일이 이미 샤딩 경로에 있으면 같은 내용이므로 평면 경로 파일만 삭제
+     * 다른 서버가 같은 디렉토리를 동시에 이전해도 덮어쓰지 않고, 먼저 옮겨진 파일은 건너뜀
+     */
+    private int moveFlatFiles(Path directory) throws IOException {
+        List<Path> flatFiles;
+        try (Stream<Path> entries = Files.list(directory)) {
+            flatFiles = entries
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_FILE_PREFIX))
+                    .toList();
+        }
+
+        int moved = 0;
+        for (Path source : flatFiles) {
+            String filename = source.getFileName().toString();
+            Path target = directory.resolve(ImageStorage.shardedPath(filename));
+            Files.createDirectories(target.getParent());
+            try {
+                ImageStorage.moveWithoutReplace(source, target);
+                moved++;
+            } catch (NoSuchFileException e) {
+                continue; // 목록 조회 후 다른 서버가 옮기거나 삭제한 경우
+            } catch (FileAlreadyExistsException e) {
+                if (ImageStorage.isContentAddressed(filename)) {
+                    Files.deleteIfExists(source);
+                } else {
+                    log.warn("샤딩 경로에 같은 이름의 파일이 있어 이동하지 않음 - 파일: {}", filename);
+                    continue;
+                }
+            }
+            imageMetadataCache.evict(filename);
+            imageMetadataCache.evict(target);
+        }
+        return moved;
+    }
+
+    /**
+     * 평면 경로 이미지 URL을 샤딩 경로 URL로 갱신 (ID 키셋 배치, 배치마다 트랜잭션)
+     * 엔티티를 통해 갱신하므로 2차 캐시와 수정 시각(조건부 GET 버전)도 함께 반영됨
+     *
+     * @return 갱신한 엔티티 수
+     */
+    private <T> int rewriteUrls(Path directory,
+                                BiFunction<Long, Limit, List<T>> batchLoader,
+                                Function<T, Long> idGetter,
+                                Function<T, String> urlGetter,
+                                BiConsumer<T, String> urlUpdater) {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            BatchResult result = transactionTemplate.execute(status -> {
+                List<T> entities = batchLoader.apply(cursor, Limit.of(batchSize));
+                int updated = 0;
+                for (T entity : entities) {
+                    String shardedUrl = shardedUrl(directory, urlGetter.apply(entity));
+                    if (shardedUrl != null) {
+                        urlUpdater.accept(entity, shardedUrl);
+                        updated++;
+                    }
+                }
+                long lastId = entities.isEmpty() ? -1 : idGetter.apply(entities.get(entities.size() - 1));
+                return new BatchResult(lastId, updated);
+            });
+            if (result == null || result.lastId() < 0) {
+                return total;
+            }
+            total += result.updated();
+            afterId = result.lastId();
+        }
+    }
+
+    /**
+     * 평면 경로 URL의 샤딩 경로 URL (이미 샤딩 경로이거나 파일이 샤딩 경로에 없으면 null)
+     */
+    private static String shardedUrl(Path directory, String url) {
+        if (url == null || !url.startsWith(IMAGE_URL_PREFIX)) {
+            return null;
+        }
+        String filename = url.substring(IMAGE_URL_PREFIX.length());
+        if (filename.isEmpty() || filename.indexOf('/') >= 0 || filename.indexOf('?') >= 0) {
+            return null;
+        }
+        String shardedPath = ImageStorage.shardedPath(filename);
+        if (!Files.isRegularFile(directory.resolve(shardedPath))) {
+            return null;
+        }
+        return IMAGE_URL_PREFIX + shardedPath;
+    }
+
+    private record BatchResult(long lastId, int updated) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.jeonjueats.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 저장소 (내용 주소 방식)
+ * 업로드 파일을 SHA-256 다이제스트 이름({다이제스트}.{확장자})으로 저장
+ * - 다이제스트는 저장하면서 함께 계산 (파일을 다시 읽지 않음)
+ * - 같은 내용의 이미지는 하나의 파일로 합쳐짐 (중복 업로드 시 새로 저장하지 않음)
+ * - 파일 이름이 내용에서 결정되므로 같은 URL의 내용은 바뀌지 않음 (immutable 캐시 가능)
+ * - 한 디렉토리에 파일이 몰리지 않도록 두 단계 16진수 접두 디렉토리에 저장 (예: ba/78/ba7816bf...jpg)
+ */
+@Slf4j
+@Component
+public class ImageStorage {
+
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("[0-9a-f]{64}(_w[0-9]+)?\\.(jpg|png)");
+    private static final Pattern VARIANT_SUFFIX = Pattern.compile("_w[0-9]+(\\.[^.]*)?$");
+
+    @Value("${app.upload.directory:uploads}")
+    private String uploadDirectory;
+
+    /**
+     * 이미지 저장 (임시 파일에 쓰면서 다이제스트 계산 → 다이제스트 이름으로 이동)
+     *
+     * @param content 이미지 내용
+     * @param extension 확장자 (.jpg / .jpeg / .png)
+     * @return 저장 결과 (이미 같은 내용이 있으면 created = false)
+     */
+    public StoredImage store(InputStream content, String extension) throws IOException {
+        Path directory = imageDirectory();
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+
+            String filename = HexFormat.of().formatHex(digest.digest()) + normalizeExtension(extension);
+            String relativePath = shardedPath(filename);
+            Path target = directory.resolve(relativePath);
+            if (Files.exists(target)) {
+                log.info("중복 이미지 업로드 - 기존 파일 사용: {}", relativePath);
+                return new StoredImage(filename, relativePath, target, size, false);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                moveWithoutReplace(temp, target);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 동시에 업로드된 경우
+                return new StoredImage(filename, relativePath, target, size, false);
+            }
+            return new StoredImage(filename, relativePath, target, size, true);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 대상 파일이 이미 있으면 덮어쓰지 않고 FileAlreadyExistsException을 던지는 이동
+     * ATOMIC_MOVE(rename)는 Linux에서 기존 대상을 덮어쓰므로, 대상이 있으면 원자적으로 실패하는
+     * 하드 링크 생성 후 원본 삭제로 이동 (하드 링크를 지원하지 않는 파일 시스템에서는 일반 이동)
+     */
+    static void moveWithoutReplace(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (FileAlreadyExistsException | NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.move(source, target);
+            return;
+        }
+        Files.delete(source);
+    }
+
+    /**
+     * 이미지 저장 디렉토리 (기존 images 폴더 구조에 맞춤: uploads/images/)
+     */
+    public Path imageDirectory() throws IOException {
+        Path directory = Paths.get(uploadDirectory, "images");
+        if (!Files.exists(directory)) {
+            Files.createDirectories(directory);
+            log.info("업로드 디렉토리 생성: {}", directory);
+        }
+        return directory;
+    }
+
+    /**
+     * 내용 주소 방식 파일명 여부 (원본 또는 축소본)
+     * 기존 방식(타임스탬프 + UUID, 초기 데이터 이미지)의 파일은 false
+     */
+    public static boolean isContentAddressed(String filename) {
+        return CONTENT_ADDRESSED_NAME.matcher(filename).matches();
+    }
+
+    /**
+     * images 디렉토리 기준 샤딩 경로 (두 단계 16진수 접두 디렉토리 + 파일명)
+     * 내용 주소 방식 파일은 다이제스트 앞 4자리, 그 외 파일은 파일명의 SHA-256 앞 4자리 사용
+     * 축소본은 원본과 같은 디렉토리에 놓이도록 _wN 접미사를 뺀 이름으로 계산
+     *
+     * @param filename 파일명 (예: ba7816bf...jpg → ba/78/ba7816bf...jpg)
+     */
+    public static String shardedPath(String filename) {
+        String key = VARIANT_SUFFIX.matcher(filename).replaceFirst("$1");
+        if (!isContentAddressed(filename)) {
+            key = HexFormat.of().formatHex(sha256().digest(key.getBytes(StandardCharsets.UTF_8)));
+        }
+        return key.substring(0, 2) + "/" + key.substring(2, 4) + "/" + filename;
+    }
+
+    private static String normalizeExtension(String extension) {
+        String lower = extension.toLowerCase();
+        return lower.equals(".jpeg") ? ".jpg" : lower;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    /**
+     * 저장된 이미지
+     *
+     * @param filename 파일명 ({SHA-256}.{확장자})
+     * @param relativePath images 디렉토리 기준 경로 (URL에 사용, 예: ba/78/{파일명})
+     * @param path 저장 경로
+     * @param size 파일 크기 (바이트)
+     * @param created 새로 저장되었는지 여부 (중복이면 false)
+     */
+    public record StoredImage(String filename, String relativePath, Path path, long size, boolean created) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.jeonjueats.image;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
+
+/**
+ * 업로드 이미지 검증 스트림
+ * 요청 본문을 버퍼링하지 않고 저장소로 흘려보내면서 검증
+ * - 형식: 첫 청크의 매직 바이트로 JPEG/PNG 판별 (Content-Type, 확장자를 믿지 않음)
+ * - 크기: 읽은 바이트 수를 누적해 최대 크기를 넘는 순간 중단 (Content-Length가 없어도 동작)
+ * 검증 실패는 기존 업로드 API와 같은 오류 코드(INVALID_FILE_FORMAT, FILE_SIZE_EXCEEDED)로 던짐
+ */
+public final class ImageUploadStream extends FilterInputStream {
+
+    private static final int SIGNATURE_LENGTH = 8;
+
+    private final ImageFormat format;
+    private final long maxBytes;
+    private long size;
+
+    private ImageUploadStream(InputStream in, ImageFormat format, long maxBytes) {
+        super(in);
+        this.format = format;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 첫 청크의 매직 바이트를 확인한 뒤 검증 스트림 생성
+     * 확인한 바이트는 되돌려 두므로 저장되는 내용은 원본과 같음
+     *
+     * @param in 요청 본문
+     * @param maxBytes 최대 크기 (바이트)
+     */
+    public static ImageUploadStream open(InputStream in, long maxBytes) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, SIGNATURE_LENGTH);
+        byte[] head = pushback.readNBytes(SIGNATURE_LENGTH);
+        if (head.length == 0) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        ImageFormat format = ImageFormat.detect(head);
+        if (format == null) {
+            throw rejected("INVALID_FILE_FORMAT", "지원하지 않는 파일 형식입니다. JPEG 또는 PNG 파일만 업로드 가능합니다.");
+        }
+        pushback.unread(head);
+        return new ImageUploadStream(pushback, format, maxBytes);
+    }
+
+    /**
+     * 매직 바이트로 판별한 이미지 형식
+     */
+    public ImageFormat format() {
+        return format;
+    }
+
+    /**
+     * 지금까지 읽은 바이트 수
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        if (skipped > 0) {
+            count(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) {
+        size += n;
+        if (size > maxBytes) {
+            throw rejected("FILE_SIZE_EXCEEDED", "파일 크기가 5MB를 초과합니다.");
+        }
+    }
+
+    private static RuntimeException rejected(String code, String message) {
+        RuntimeException exception = new RuntimeException(code);
+        exception.addSuppressed(new IllegalArgumentException(message));
+        return exception;
+    }
+
+    /**
+     * 허용 이미지 형식
+     */
+    public enum ImageFormat {
+
+        JPEG(".jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+        PNG(".png", "image/png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+        private final String extension;
+        private final String contentType;
+        private final byte[] signature;
+
+        ImageFormat(String extension, String contentType, byte[] signature) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.signature = signature;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        static ImageFormat detect(byte[] head) {
+            for (ImageFormat format : values()) {
+                if (head.length >= format.signature.length
+                        && Arrays.equals(head, 0, format.signature.length, format.signature, 0, format.signature.length)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+}
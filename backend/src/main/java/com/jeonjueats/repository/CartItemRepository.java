@@ -2,6 +2,7 @@ package com.jeonjueats.repository;
 
 import com.jeonjueats.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -45,8 +46,11 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     /**
      * 특정 장바구니의 모든 아이템 삭제
      * 주문 완료 후 장바구니 비우기 시 사용
+     * 파생 삭제 쿼리(조회 후 행 단위 DELETE) 대신 단일 DELETE 문으로 처리
      */
-    void deleteByCartId(Long cartId);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cartId = :cartId")
+    int deleteByCartId(@Param("cartId") Long cartId);
 
     /**
      * 특정 메뉴의 모든 장바구니 아이템 삭제
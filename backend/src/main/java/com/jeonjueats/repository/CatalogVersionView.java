@@ -0,0 +1,14 @@
+package com.jeonjueats.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카탈로그 버전 집계 결과 프로젝션 (최근 수정 시각 + 항목 수)
+ * 조건부 GET(ETag) 판단용
+ */
+public interface CatalogVersionView {
+
+    LocalDateTime getLastModified();
+
+    Long getCount();
+}
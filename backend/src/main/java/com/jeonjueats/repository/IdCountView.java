@@ -0,0 +1,11 @@
+package com.jeonjueats.repository;
+
+/**
+ * ID별 집계 결과 프로젝션 (GROUP BY 조회용)
+ */
+public interface IdCountView {
+
+    Long getId();
+
+    Long getCount();
+}
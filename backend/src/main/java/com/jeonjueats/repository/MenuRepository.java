@@ -2,6 +2,7 @@ package com.jeonjueats.repository;
 
 import com.jeonjueats.entity.Menu;
 import com.jeonjueats.entity.MenuStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +20,7 @@ import java.util.Optional;
  * Spring Data JPA를 통해 Menu 엔티티에 대한 기본 CRUD 및 커스텀 조회 메서드 제공
  */
 @Repository
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuRepositoryCustom {
 
     /**
      * 매장별 메뉴 목록 조회 (논리적 삭제 제외)
@@ -67,6 +70,14 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      */
     long countByStoreIdAndIsDeletedFalse(Long storeId);
 
+    /**
+     * 매장별 메뉴 버전 조회 (최근 수정 시각 + 메뉴 수)
+     * 가게 상세/메뉴 목록 조건부 GET(ETag) 판단용
+     */
+    @Query("SELECT MAX(m.updatedAt) AS lastModified, COUNT(m) AS count FROM Menu m " +
+           "WHERE m.storeId = :storeId AND m.isDeleted = false")
+    CatalogVersionView findCatalogVersionByStoreId(@Param("storeId") Long storeId);
+
     /**
      * 매장별 판매 가능한 메뉴 개수 조회
      */
@@ -75,6 +86,35 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     /**
      * 메뉴 ID로 메뉴 조회 (논리적 삭제 제외)
      * 장바구니에 메뉴 추가 시 메뉴 존재 확인용
+     * 2차 캐시를 거치도록 findById로 조회 후 삭제 여부 확인 (삭제 시 캐시에서도 제거됨)
+     */
+    default Optional<Menu> findByIdAndIsDeletedFalse(Long menuId) {
+        return findById(menuId).filter(menu -> !menu.isDeleted());
+    }
+
+    /**
+     * 메뉴 ID 목록으로 메뉴 일괄 조회 (논리적 삭제 제외)
+     * 장바구니/주문 조회 시 아이템 수와 무관하게 메뉴 정보 로딩
+     * 2차 캐시에 있는 메뉴는 캐시에서, 나머지만 단일 IN 쿼리로 조회
+     */
+    default List<Menu> findByIdInAndIsDeletedFalse(Collection<Long> menuIds) {
+        return findAllCachedById(menuIds).stream()
+                .filter(menu -> !menu.isDeleted())
+                .toList();
+    }
+
+    /**
+     * 평면 경로 이미지 URL이 있는 메뉴 키셋 배치 조회 (ID 오름차순, 이미지 디렉토리 샤딩 이전 시 URL 갱신용)
+     * 평면 경로 URL만 조회하므로 이전이 끝나면 결과가 없음
+     */
+    @Query("SELECT m FROM Menu m WHERE m.id > :afterId AND m.menuImageUrl LIKE '/api/images/%' " +
+           "AND m.menuImageUrl NOT LIKE '/api/images/%/%' ORDER BY m.id")
+    List<Menu> findImageUrlBatch(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 수정 시각 이후 변경된 메뉴 ID 조회 (논리적 삭제 포함, 검색 색인 동기화용)
+     * 삭제된 메뉴도 포함해야 하므로 @SQLRestriction이 적용되지 않는 네이티브 쿼리 사용
      */
-    Optional<Menu> findByIdAndIsDeletedFalse(Long menuId);
-} 
\ No newline at end of file
+    @Query(value = "SELECT menu_id FROM menu WHERE updated_at > :since", nativeQuery = true)
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,19 @@
+package com.jeonjueats.repository;
+
+import com.jeonjueats.entity.Menu;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메뉴 Repository 커스텀 인터페이스
+ * Spring Data JPA 파생 쿼리로 표현할 수 없는 조회 제공
+ */
+public interface MenuRepositoryCustom {
+
+    /**
+     * 메뉴 ID 목록으로 일괄 조회 (2차 캐시 우선)
+     * 캐시에 없는 메뉴만 단일 IN 쿼리로 조회하며, 존재하지 않는 ID는 결과에서 제외
+     */
+    List<Menu> findAllCachedById(Collection<Long> menuIds);
+}
@@ -0,0 +1,34 @@
+package com.jeonjueats.repository;
+
+import com.jeonjueats.entity.Menu;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 메뉴 Repository 커스텀 구현체
+ * Hibernate 다중 ID 조회(multiLoad)는 영속성 컨텍스트와 2차 캐시를 먼저 확인하고 나머지만 DB에서 조회
+ */
+public class MenuRepositoryImpl implements MenuRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Menu> findAllCachedById(Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Menu.class)
+                .multiLoad(new ArrayList<>(menuIds))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +24,12 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      */
     List<OrderItem> findByOrderIdOrderByCreatedAtDesc(Long orderId);
 
+    /**
+     * 여러 주문의 아이템 일괄 조회
+     * 주문 요약 읽기 모델 보정 시 주문 수와 무관하게 IN 쿼리 1회로 처리
+     */
+    List<OrderItem> findByOrderIdInOrderByIdAsc(Collection<Long> orderIds);
+
     /**
      * 특정 메뉴의 주문 내역 조회
      * 메뉴별 판매 통계 또는 인기 메뉴 분석용
@@ -49,6 +56,13 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     @Query("SELECT SUM(oi.quantity) FROM OrderItem oi WHERE oi.menuId = :menuId")
     Long getTotalQuantityByMenuId(@Param("menuId") Long menuId);
 
+    /**
+     * 메뉴별 총 판매 수량 집계
+     * 검색어 자동완성 인기도 가중치 계산용
+     */
+    @Query("SELECT oi.menuId AS id, SUM(oi.quantity) AS count FROM OrderItem oi GROUP BY oi.menuId")
+    List<IdCountView> sumQuantityGroupByMenuId();
+
     /**
      * 특정 메뉴의 총 판매 금액 조회
      * 메뉴별 매출 통계용
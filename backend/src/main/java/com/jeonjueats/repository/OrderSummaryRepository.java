@@ -0,0 +1,93 @@
+package com.jeonjueats.repository;
+
+import com.jeonjueats.entity.OrderStatus;
+import com.jeonjueats.entity.OrderSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 요약 읽기 모델 Repository 인터페이스
+ * 주문 목록 조회 전용 (user_id/store_id + ordered_at 복합 인덱스 범위 스캔)
+ */
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    /**
+     * 사용자별 주문 요약 목록 조회 (페이징)
+     * 내 주문 목록 조회
+     */
+    Page<OrderSummary> findByUserIdOrderByOrderedAtDesc(Long userId, Pageable pageable);
+
+    /**
+     * 매장별 주문 요약 목록 조회 (페이징)
+     * 사장님 주문 목록 조회 (전체 상태)
+     */
+    Page<OrderSummary> findByStoreIdOrderByOrderedAtDesc(Long storeId, Pageable pageable);
+
+    /**
+     * 매장별 + 상태별 주문 요약 목록 조회 (페이징)
+     * 사장님 주문 목록 조회 (상태 필터링)
+     */
+    Page<OrderSummary> findByStoreIdAndStatusOrderByOrderedAtDesc(Long storeId, OrderStatus status, Pageable pageable);
+
+    /**
+     * 사용자별 주문 요약 키셋 페이지 조회 (커서 이후, 최신순)
+     * (user_id, ordered_at, order_id) 인덱스 범위 스캔, COUNT 쿼리 없음
+     */
+    @Query("SELECT s FROM OrderSummary s WHERE s.userId = :userId AND " +
+           "(s.orderedAt < :orderedAt OR (s.orderedAt = :orderedAt AND s.orderId < :orderId)) " +
+           "ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummary> findKeysetPageByUserId(@Param("userId") Long userId,
+                                              @Param("orderedAt") LocalDateTime orderedAt,
+                                              @Param("orderId") Long orderId,
+                                              Limit limit);
+
+    /**
+     * 매장별 주문 요약 키셋 페이지 조회 (커서 이후, 최신순)
+     */
+    @Query("SELECT s FROM OrderSummary s WHERE s.storeId = :storeId AND " +
+           "(s.orderedAt < :orderedAt OR (s.orderedAt = :orderedAt AND s.orderId < :orderId)) " +
+           "ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummary> findKeysetPageByStoreId(@Param("storeId") Long storeId,
+                                               @Param("orderedAt") LocalDateTime orderedAt,
+                                               @Param("orderId") Long orderId,
+                                               Limit limit);
+
+    /**
+     * 매장별 + 상태별 주문 요약 키셋 페이지 조회 (커서 이후, 최신순)
+     */
+    @Query("SELECT s FROM OrderSummary s WHERE s.storeId = :storeId AND s.status = :status AND " +
+           "(s.orderedAt < :orderedAt OR (s.orderedAt = :orderedAt AND s.orderId < :orderId)) " +
+           "ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummary> findKeysetPageByStoreIdAndStatus(@Param("storeId") Long storeId,
+                                                        @Param("status") OrderStatus status,
+                                                        @Param("orderedAt") LocalDateTime orderedAt,
+                                                        @Param("orderId") Long orderId,
+                                                        Limit limit);
+
+    /**
+     * 주문 상태 변경 반영
+     * 사장님 주문 상태 변경 시 읽기 모델 동기화
+     */
+    @Modifying
+    @Query("UPDATE OrderSummary s SET s.status = :status, s.updatedAt = :updatedAt WHERE s.orderId = :orderId")
+    int updateStatus(@Param("orderId") Long orderId,
+                     @Param("status") OrderStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 요약 정보가 없는 주문 ID 조회 (읽기 모델 도입 이전 주문 보정용)
+     */
+    @Query("SELECT o.id FROM Orders o WHERE NOT EXISTS " +
+           "(SELECT 1 FROM OrderSummary s WHERE s.orderId = o.id) ORDER BY o.id")
+    List<Long> findOrderIdsWithoutSummary(Pageable pageable);
+}
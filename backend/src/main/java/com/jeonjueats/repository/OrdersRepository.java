@@ -89,6 +89,13 @@ public interface OrdersRepository extends JpaRepository<Orders, Long> {
      */
     long countByUserId(Long userId);
 
+    /**
+     * 매장별 주문 수 집계
+     * 검색어 자동완성 인기도 가중치 계산용
+     */
+    @Query("SELECT o.storeId AS id, COUNT(o) AS count FROM Orders o GROUP BY o.storeId")
+    List<IdCountView> countGroupByStoreId();
+
     /**
      * 기간별 주문 조회 (매장별 매출 분석용)
      */
@@ -2,6 +2,7 @@ package com.jeonjueats.repository;
 
 import com.jeonjueats.entity.Store;
 import com.jeonjueats.entity.StoreStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -85,8 +87,11 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     /**
      * 매장 상세 조회 (삭제되지 않은 매장만)
      * 가게 상세 정보 조회
+     * 2차 캐시를 거치도록 findById로 조회 후 삭제 여부 확인 (삭제 시 캐시에서도 제거됨)
      */
-    Optional<Store> findByIdAndIsDeletedFalse(Long storeId);
+    default Optional<Store> findByIdAndIsDeletedFalse(Long storeId) {
+        return findById(storeId).filter(store -> !store.isDeleted());
+    }
 
     /**
      * 사장님 특정 매장 조회 (권한 체크 포함)
@@ -113,4 +118,50 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      * 모든 매장 조회 (영업 상태 무관, 페이징) - 전체 카테고리
      */
     Page<Store> findByIsDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
-} 
\ No newline at end of file
+
+    /**
+     * 매장 목록 버전 조회 (최근 수정 시각 + 매장 수, 카테고리 ID가 null이면 전체)
+     * 매장 목록 조건부 GET(ETag) 판단용
+     */
+    @Query("SELECT MAX(s.updatedAt) AS lastModified, COUNT(s) AS count FROM Store s " +
+           "WHERE s.isDeleted = false AND (:categoryId IS NULL OR s.categoryId = :categoryId)")
+    CatalogVersionView findCatalogVersion(@Param("categoryId") Long categoryId);
+
+    /**
+     * 모든 매장 키셋 페이지 조회 (커서 이후, 최신순)
+     * (is_deleted, created_at, store_id) 인덱스 범위 스캔, COUNT 쿼리 없음
+     */
+    @Query("SELECT s FROM Store s WHERE s.isDeleted = false AND " +
+           "(s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Store> findKeysetPage(@Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Limit limit);
+
+    /**
+     * 카테고리별 매장 키셋 페이지 조회 (커서 이후, 최신순)
+     * (category_id, is_deleted, created_at, store_id) 인덱스 범위 스캔, COUNT 쿼리 없음
+     */
+    @Query("SELECT s FROM Store s WHERE s.categoryId = :categoryId AND s.isDeleted = false AND " +
+           "(s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Store> findKeysetPageByCategoryId(@Param("categoryId") Long categoryId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    /**
+     * 평면 경로 이미지 URL이 있는 매장 키셋 배치 조회 (ID 오름차순, 이미지 디렉토리 샤딩 이전 시 URL 갱신용)
+     * 평면 경로 URL만 조회하므로 이전이 끝나면 결과가 없음
+     */
+    @Query("SELECT s FROM Store s WHERE s.id > :afterId AND s.storeImageUrl LIKE '/api/images/%' " +
+           "AND s.storeImageUrl NOT LIKE '/api/images/%/%' ORDER BY s.id")
+    List<Store> findImageUrlBatch(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 수정 시각 이후 변경된 매장 ID 조회 (논리적 삭제 포함, 검색 색인 동기화용)
+     * 삭제된 매장도 포함해야 하므로 @SQLRestriction이 적용되지 않는 네이티브 쿼리 사용
+     */
+    @Query(value = "SELECT store_id FROM store WHERE updated_at > :since", nativeQuery = true)
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -2,8 +2,13 @@ package com.jeonjueats.repository;
 
 import com.jeonjueats.entity.User;
 import com.jeonjueats.entity.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,4 +49,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 일반 사용자만 조회
      */
     List<User> findByRoleOrderByCreatedAtDesc(UserRole role);
-} 
\ No newline at end of file
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 BCrypt cost 변경 반영)
+     * 조회 이후 비밀번호가 바뀌었다면 갱신하지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * 평면 경로 프로필 이미지 URL이 있는 사용자 키셋 배치 조회 (ID 오름차순, 이미지 디렉토리 샤딩 이전 시 URL 갱신용)
+     * 평면 경로 URL만 조회하므로 이전이 끝나면 결과가 없음
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :afterId AND u.profileImageUrl LIKE '/api/images/%' " +
+           "AND u.profileImageUrl NOT LIKE '/api/images/%/%' ORDER BY u.id")
+    List<User> findImageUrlBatch(@Param("afterId") Long afterId, Limit limit);
+}
@@ -4,8 +4,11 @@ import com.jeonjueats.entity.Wishlist;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +20,52 @@ import java.util.Optional;
 @Repository
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
 
+    /**
+     * 찜 목록 + 가게 정보 조인 조회 SELECT 절
+     * 네이티브 쿼리이므로 삭제된(is_deleted = true) 가게도 조인됨
+     */
+    String WISHLIST_STORE_VIEW_SELECT =
+            "SELECT w.wishlist_id AS wishlistId, w.created_at AS wishedAt, w.store_id AS storeId, " +
+            "s.name AS storeName, s.store_image_url AS storeImageUrl, s.min_order_amount AS minOrderAmount, " +
+            "s.delivery_fee AS deliveryFee, s.status AS status, s.description AS description, s.is_deleted AS deleted " +
+            "FROM wishlist w LEFT JOIN store s ON s.store_id = w.store_id ";
+
     /**
      * 사용자별 찜 목록 조회 (최신순)
      * 마이페이지의 "찜한 매장" 목록 보여주기용
      */
     Page<Wishlist> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 사용자별 찜 목록 + 가게 정보 조회 (최신순, 페이징)
+     * 찜 행마다 가게를 조회하지 않고 단일 조인 쿼리로 처리 (삭제된 가게 포함)
+     */
+    @Query(value = WISHLIST_STORE_VIEW_SELECT + "WHERE w.user_id = :userId ORDER BY w.created_at DESC, w.wishlist_id DESC",
+           countQuery = "SELECT COUNT(*) FROM wishlist w WHERE w.user_id = :userId",
+           nativeQuery = true)
+    Page<WishlistStoreView> findWishlistStoreViewsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 찜 목록 + 가게 정보 첫 키셋 배치 조회 (최신순, 전체 목록 스트리밍용)
+     */
+    @Query(value = WISHLIST_STORE_VIEW_SELECT + "WHERE w.user_id = :userId " +
+                   "ORDER BY w.created_at DESC, w.wishlist_id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<WishlistStoreView> findWishlistStoreViewBatch(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 사용자별 찜 목록 + 가게 정보 다음 키셋 배치 조회 (직전 배치 마지막 항목 이후, 최신순)
+     * OFFSET 없이 (찜한 시각, 찜 ID) 기준으로 이어서 조회하므로 뒤쪽 배치도 조회 비용이 같음
+     */
+    @Query(value = WISHLIST_STORE_VIEW_SELECT + "WHERE w.user_id = :userId " +
+                   "AND (w.created_at < :wishedAt OR (w.created_at = :wishedAt AND w.wishlist_id < :wishlistId)) " +
+                   "ORDER BY w.created_at DESC, w.wishlist_id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<WishlistStoreView> findWishlistStoreViewBatchAfter(@Param("userId") Long userId,
+                                                             @Param("wishedAt") LocalDateTime wishedAt,
+                                                             @Param("wishlistId") Long wishlistId,
+                                                             @Param("limit") int limit);
+
     /**
      * 사용자가 특정 매장을 찜했는지 확인
      * 매장 상세 페이지에서 하트 아이콘 색상 결정용
@@ -53,6 +96,13 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
      */
     long countByStoreId(Long storeId);
 
+    /**
+     * 매장별 찜 개수 집계
+     * 검색어 자동완성 인기도 가중치 계산용
+     */
+    @Query("SELECT w.storeId AS id, COUNT(w) AS count FROM Wishlist w GROUP BY w.storeId")
+    List<IdCountView> countGroupByStoreId();
+
     /**
      * 찜 해제 (사용자 + 매장 조합으로 삭제)
      * 하트 버튼 클릭 시 찜 해제용
@@ -0,0 +1,32 @@
+package com.jeonjueats.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 찜 목록 + 가게 정보 조회용 프로젝션
+ * 찜 목록과 가게 정보를 단일 조인 쿼리로 조회할 때 사용
+ * 네이티브 쿼리로 조회하므로 Store의 @SQLRestriction이 적용되지 않아 삭제된 가게 정보도 포함됨
+ */
+public interface WishlistStoreView {
+
+    Long getWishlistId();
+
+    LocalDateTime getWishedAt();
+
+    Long getStoreId();
+
+    String getStoreName(); // 가게가 물리적으로 없는 경우 null
+
+    String getStoreImageUrl();
+
+    BigDecimal getMinOrderAmount();
+
+    BigDecimal getDeliveryFee();
+
+    String getStatus();
+
+    String getDescription();
+
+    Boolean getDeleted(); // 논리적 삭제 여부
+}
@@ -0,0 +1,61 @@
+package com.jeonjueats.search;
+
+/**
+ * 한글 초성 변환 유틸리티
+ * 한글 음절을 초성(호환 자모)으로 분해하여 "ㄷㄱㅂ" 같은 초성 검색을 지원
+ * 예) "닭갈비" → "ㄷㄱㅂ", "BBQ치킨" → "BBQㅊㅋ" (한글이 아닌 문자는 그대로 유지)
+ */
+public final class HangulChosung {
+
+    private static final char HANGUL_SYLLABLE_START = '\uAC00'; // 가
+    private static final char HANGUL_SYLLABLE_END = '\uD7A3';   // 힣
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;   // 중성 수 × 종성 수
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    /**
+     * 문자열의 한글 음절을 초성으로 변환
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= HANGUL_SYLLABLE_START && ch <= HANGUL_SYLLABLE_END) {
+                builder.append(CHOSUNG[(ch - HANGUL_SYLLABLE_START) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 검색어 여부 (모든 문자가 초성 자음인 경우)
+     */
+    public static boolean isChosungQuery(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChosung(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isChosung(char ch) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package com.jeonjueats.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 검색용 문자 n-gram 토크나이저
+ * 한글은 띄어쓰기/형태소 단위가 일정하지 않으므로 음절 단위 1~3-gram으로 색인
+ * 예) "닭갈비" → 닭, 갈, 비, 닭갈, 갈비, 닭갈비
+ */
+public final class NgramTokenizer {
+
+    /**
+     * 색인하는 최대 gram 길이
+     */
+    public static final int MAX_GRAM = 3;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 검색 비교용 정규화
+     * NFC 정규화(자모 분리 입력 대응) 후 공백 제거, 소문자 변환
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder builder = new StringBuilder(composed.length());
+        composed.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .map(Character::toLowerCase)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 색인용 gram 목록 (1 ~ MAX_GRAM 길이의 모든 부분 문자열)
+     *
+     * @param normalized 정규화된 문자열
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int size = 1; size <= MAX_GRAM; size++) {
+            addGrams(normalized, size, grams);
+        }
+        return grams;
+    }
+
+    /**
+     * 질의용 gram 목록
+     * 질의 길이가 MAX_GRAM 이하면 질의 전체 하나, 길면 MAX_GRAM 길이의 부분 문자열 전부
+     *
+     * @param normalized 정규화된 질의어
+     */
+    public static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(normalized, Math.min(normalized.length(), MAX_GRAM), grams);
+        return grams;
+    }
+
+    private static void addGrams(String text, int size, Set<String> grams) {
+        if (size <= 0) {
+            return;
+        }
+        for (int i = 0; i + size <= text.length(); i++) {
+            grams.add(text.substring(i, i + size));
+        }
+    }
+}
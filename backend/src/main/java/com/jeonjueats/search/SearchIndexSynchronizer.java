@@ -0,0 +1,110 @@
+package com.jeonjueats.search;
+
+import com.jeonjueats.entity.Menu;
+import com.jeonjueats.entity.Store;
+import com.jeonjueats.repository.MenuRepository;
+import com.jeonjueats.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 색인 주기 동기화
+ * 검색/자동완성 색인은 서버별 메모리에 있고 커밋 후 갱신은 변경한 서버에서만 일어나므로,
+ * 다른 서버에서 등록/수정/영업 상태 변경/삭제된 가게와 메뉴를 수정 시각(updated_at) 기준으로 주기적으로 반영
+ * - 논리적 삭제도 엔티티 delete()와 Auditing으로 updated_at을 갱신하므로 삭제된 가게/메뉴는 색인에서 제거
+ *   (updated_at은 모두 애플리케이션 시계로 기록되어 동기화 기준 시각과 같은 시계를 쓴다)
+ * - 직전 동기화 시각보다 sync-overlap만큼 앞부터 다시 조회하여 시계 차이/복제 지연/늦은 커밋을 보정
+ *   (같은 변경을 여러 번 반영해도 결과는 같음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexSynchronizer {
+
+    // 한 번의 IN 조회로 읽을 최대 ID 수 (이미지 URL 일괄 변경 등으로 변경 건수가 많을 때)
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+
+    /**
+     * 다시 조회할 구간 (직전 동기화 시각 이전)
+     */
+    @Value("${app.search.index.sync-overlap:30s}")
+    private Duration syncOverlap;
+
+    // 이 시각까지의 변경은 반영됨 (기동 시 전체 색인이 그 이전 변경을 포함)
+    private LocalDateTime syncedUntil = LocalDateTime.now();
+
+    @Scheduled(fixedDelayString = "${app.search.index.sync-interval:30s}",
+               initialDelayString = "${app.search.index.sync-interval:30s}")
+    public void syncChanges() {
+        if (!storeSearchIndex.isReady()) {
+            return; // 전체 색인 생성 전 (또는 실패 시 DB 검색 사용 중)
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = syncedUntil.minus(syncOverlap);
+        try {
+            int stores = syncStores(storeRepository.findIdsUpdatedSince(since));
+            int menus = syncMenus(menuRepository.findIdsUpdatedSince(since));
+            syncedUntil = startedAt;
+            if (stores + menus > 0) {
+                log.debug("검색 색인 동기화 - 가게 {}개, 메뉴 {}개 (기준 시각: {})", stores, menus, since);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 같은 구간부터 다시 시도
+            log.warn("검색 색인 동기화 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private int syncStores(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> deletedIds = new HashSet<>(storeIds);
+        for (int from = 0; from < storeIds.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> batch = storeIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, storeIds.size()));
+            for (Store store : storeRepository.findAllById(batch)) {
+                deletedIds.remove(store.getId());
+                storeSearchIndex.indexStore(store);
+                searchSuggestionIndex.indexStore(store);
+            }
+        }
+        for (Long storeId : deletedIds) {
+            storeSearchIndex.removeStore(storeId);
+            searchSuggestionIndex.removeStore(storeId);
+        }
+        return storeIds.size();
+    }
+
+    private int syncMenus(List<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> deletedIds = new HashSet<>(menuIds);
+        for (int from = 0; from < menuIds.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> batch = menuIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, menuIds.size()));
+            for (Menu menu : menuRepository.findAllById(batch)) {
+                deletedIds.remove(menu.getId());
+                storeSearchIndex.indexMenu(menu);
+                searchSuggestionIndex.indexMenu(menu);
+            }
+        }
+        for (Long menuId : deletedIds) {
+            storeSearchIndex.removeMenu(menuId);
+            searchSuggestionIndex.removeMenu(menuId);
+        }
+        return menuIds.size();
+    }
+}
@@ -0,0 +1,200 @@
+package com.jeonjueats.search;
+
+import com.jeonjueats.dto.StoreResponseDto;
+import com.jeonjueats.entity.StoreStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 페이지 캐시
+ * "치킨", "피자" 등 소수 키워드에 몰리는 검색 트래픽을 위해 (키워드, 상태, 페이지, 크기) 단위로 결과 페이지를 보관
+ * - 크기 제한: 항목별 가중치(가게 수 + 1) 합계가 최대치를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - 무효화: 가게/메뉴 변경 시 변경 전후 이름에 키워드가 포함되는 항목만 제거
+ * - 버전: 무효화마다 버전을 올려, 조회 도중 무효화가 일어난 결과는 캐시에 저장하지 않음
+ * 적중률/제거 지표는 actuator metrics(search.result.cache.*)로 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+
+    private static final String METRIC_PREFIX = "search.result.cache";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 최대 가중치 (캐시된 가게 항목 수 기준)
+     */
+    @Value("${app.search.result-cache.max-weight:10000}")
+    private long maxWeight;
+
+    private final LinkedHashMap<Key, CachedPage> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalWeight;
+    private long version;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter sizeEvictionCounter;
+    private Counter invalidationCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "hit")
+                .description("검색 결과 캐시 적중 수").register(meterRegistry);
+        missCounter = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "miss")
+                .description("검색 결과 캐시 미적중 수").register(meterRegistry);
+        sizeEvictionCounter = Counter.builder(METRIC_PREFIX + ".evictions").tag("cause", "size")
+                .description("용량 초과로 제거된 항목 수").register(meterRegistry);
+        invalidationCounter = Counter.builder(METRIC_PREFIX + ".evictions").tag("cause", "invalidation")
+                .description("가게/메뉴 변경으로 제거된 항목 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, SearchResultCache::size)
+                .description("캐시된 페이지 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".weight", this, SearchResultCache::weight)
+                .description("캐시된 가게 항목 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, SearchResultCache::hitRatio)
+                .description("캐시 적중률").register(meterRegistry);
+    }
+
+    /**
+     * 현재 캐시 버전 (조회 시작 전에 읽어 두었다가 put 시 전달)
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @return 캐시된 페이지 (없으면 null)
+     */
+    public synchronized CachedPage get(String keyword, StoreStatus status, int page, int size) {
+        CachedPage cached = entries.get(new Key(NgramTokenizer.normalize(keyword), status, page, size));
+        if (cached != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * 캐시 저장
+     * 조회 시작 이후 무효화가 있었다면 (버전 불일치) 오래된 결과일 수 있으므로 저장하지 않음
+     *
+     * @param expectedVersion 조회 시작 전 version() 값
+     */
+    public synchronized void put(String keyword, StoreStatus status, int page, int size,
+                                 CachedPage cachedPage, long expectedVersion) {
+        if (expectedVersion != version) {
+            return;
+        }
+        Key key = new Key(NgramTokenizer.normalize(keyword), status, page, size);
+        CachedPage previous = entries.put(key, cachedPage);
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += cachedPage.weight();
+
+        Iterator<CachedPage> eldest = entries.values().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            CachedPage evicted = eldest.next();
+            eldest.remove();
+            totalWeight -= evicted.weight();
+            sizeEvictionCounter.increment();
+        }
+    }
+
+    /**
+     * 변경된 가게명/메뉴명과 일치하는 키워드의 캐시 무효화
+     * 변경 전 이름과 변경 후 이름을 모두 전달해야 결과에서 빠지는 경우와 새로 포함되는 경우를 모두 처리
+     *
+     * @param normalizedNames 정규화된 이름 목록
+     */
+    public synchronized void invalidateMatching(Collection<String> normalizedNames) {
+        version++;
+        if (normalizedNames.isEmpty()) {
+            return;
+        }
+        int removed = 0;
+        Iterator<Map.Entry<Key, CachedPage>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, CachedPage> entry = iterator.next();
+            if (matchesAny(entry.getKey().keyword(), normalizedNames)) {
+                totalWeight -= entry.getValue().weight();
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            invalidationCounter.increment(removed);
+            log.debug("검색 결과 캐시 무효화 - {}개 항목", removed);
+        }
+    }
+
+    /**
+     * 전체 무효화 (색인 재구성 시)
+     */
+    public synchronized void invalidateAll() {
+        version++;
+        invalidationCounter.increment(entries.size());
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    private boolean matchesAny(String keyword, Collection<String> names) {
+        boolean chosung = HangulChosung.isChosungQuery(keyword);
+        for (String name : names) {
+            String text = chosung ? HangulChosung.toChosung(name) : name;
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized long weight() {
+        return totalWeight;
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    /**
+     * 캐시된 검색 결과 페이지
+     *
+     * @param content 페이지 내용
+     * @param totalElements 전체 검색 결과 수
+     */
+    public record CachedPage(List<StoreResponseDto> content, long totalElements) {
+
+        public CachedPage {
+            content = List.copyOf(content);
+        }
+
+        long weight() {
+            return content.size() + 1L;
+        }
+    }
+
+    private record Key(String keyword, StoreStatus status, int page, int size) {
+    }
+}
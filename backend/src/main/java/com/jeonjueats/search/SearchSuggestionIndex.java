@@ -0,0 +1,415 @@
+package com.jeonjueats.search;
+
+import com.jeonjueats.entity.Category;
+import com.jeonjueats.entity.Menu;
+import com.jeonjueats.entity.Store;
+import com.jeonjueats.entity.StoreStatus;
+import com.jeonjueats.repository.CategoryRepository;
+import com.jeonjueats.repository.IdCountView;
+import com.jeonjueats.repository.MenuRepository;
+import com.jeonjueats.repository.OrderItemRepository;
+import com.jeonjueats.repository.OrdersRepository;
+import com.jeonjueats.repository.StoreRepository;
+import com.jeonjueats.repository.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성 색인
+ * 가게명/메뉴명/카테고리명을 접두사 트라이에 넣고 인기도(주문 수, 찜 수) 가중치 순으로 추천
+ * 같은 검색어가 여러 가게/메뉴에서 나오면 (예: 여러 가게의 "후라이드치킨") 가중치를 합산하여 하나로 노출
+ * 애플리케이션 시작 시 전체 구성 후, 가게/메뉴 변경과 주문/찜 발생 시 커밋 후 증분 반영
+ * 다른 서버에서 일어난 가게/메뉴 변경은 SearchIndexSynchronizer가 주기적으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchSuggestionIndex {
+
+    /**
+     * 노드별로 미리 계산해 두는 추천 개수 (API 최대 반환 개수)
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    /**
+     * 가중치 계산 (기본 1 + 주문 수 + 찜 수 × 2)
+     */
+    private static final long BASE_WEIGHT = 1L;
+    private static final long WISHLIST_WEIGHT = 2L;
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final CategoryRepository categoryRepository;
+    private final OrdersRepository ordersRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final WishlistRepository wishlistRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SuggestionTrie trie = new SuggestionTrie(MAX_SUGGESTIONS);
+
+    // 원본 데이터
+    private final Map<Long, StoreSource> stores = new HashMap<>();
+    private final Map<Long, MenuSource> menus = new HashMap<>();
+    private final Map<Long, Set<Long>> menuIdsByStoreId = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+
+    // 인기도 집계
+    private final Map<Long, Long> storeOrderCounts = new HashMap<>();
+    private final Map<Long, Long> storeWishlistCounts = new HashMap<>();
+    private final Map<Long, Long> menuOrderQuantities = new HashMap<>();
+    private final Map<Long, Long> categoryOrderCounts = new HashMap<>();
+
+    // 검색어(정규화) → 출처별 기여분, 출처 → 검색어
+    private final Map<String, Map<Source, Contribution>> contributionsByKey = new HashMap<>();
+    private final Map<Source, String> keyBySource = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            clear();
+
+            storeOrderCounts.putAll(toCountMap(ordersRepository.countGroupByStoreId()));
+            storeWishlistCounts.putAll(toCountMap(wishlistRepository.countGroupByStoreId()));
+            menuOrderQuantities.putAll(toCountMap(orderItemRepository.sumQuantityGroupByMenuId()));
+
+            for (Category category : categoryRepository.findAll()) {
+                categoryNames.put(category.getId(), category.getName());
+            }
+            for (Store store : storeRepository.findAll()) {
+                StoreSource source = StoreSource.of(store);
+                stores.put(source.storeId(), source);
+                categoryOrderCounts.merge(source.categoryId(),
+                        storeOrderCounts.getOrDefault(source.storeId(), 0L), Long::sum);
+            }
+            for (Menu menu : menuRepository.findAll()) {
+                MenuSource source = MenuSource.of(menu);
+                menus.put(source.menuId(), source);
+                menuIdsByStoreId.computeIfAbsent(source.storeId(), id -> new HashSet<>()).add(source.menuId());
+            }
+
+            stores.values().forEach(store -> setContribution(storeSource(store.storeId()), storeContribution(store)));
+            menus.values().forEach(menu -> setContribution(menuSource(menu.menuId()), menuContribution(menu)));
+            categoryNames.keySet().forEach(id -> setContribution(categorySource(id), categoryContribution(id)));
+
+            trie.rebuild(contributionsByKey.keySet().stream()
+                    .map(this::toEntry)
+                    .collect(Collectors.toList()));
+
+            ready = true;
+            log.info("검색어 자동완성 색인 구성 완료 - 검색어 {}개", trie.size());
+        } catch (Exception e) {
+            log.error("검색어 자동완성 색인 구성 실패 - 오류: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 추천 검색어 조회 (인기도순)
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수 (1 ~ MAX_SUGGESTIONS)
+     * @return 추천 검색어 목록 (색인 구성 전에는 빈 목록)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = NgramTokenizer.normalize(prefix);
+        if (key.isEmpty() || !ready) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+        lock.readLock().lock();
+        try {
+            return trie.top(key, size).stream()
+                    .map(entry -> new Suggestion(entry.text(), entry.type(), entry.weight()))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가게 등록/수정/상태 변경 반영
+     * 영업 중(OPEN)인 가게와 그 가게의 메뉴만 추천 대상이며, 카테고리 변경 시 카테고리 인기도도 함께 이동
+     */
+    public void indexStore(Store store) {
+        StoreSource source = StoreSource.of(store);
+        AfterCommit.run(() -> write(() -> {
+            StoreSource previous = stores.put(source.storeId(), source);
+            if (previous != null && !previous.categoryId().equals(source.categoryId())) {
+                long orders = storeOrderCounts.getOrDefault(source.storeId(), 0L);
+                categoryOrderCounts.merge(previous.categoryId(), -orders, Long::sum);
+                categoryOrderCounts.merge(source.categoryId(), orders, Long::sum);
+                updateContribution(categorySource(previous.categoryId()), categoryContribution(previous.categoryId()));
+                updateContribution(categorySource(source.categoryId()), categoryContribution(source.categoryId()));
+            }
+            updateContribution(storeSource(source.storeId()), storeContribution(source));
+            if (previous == null || previous.status() != source.status()) {
+                // 영업 상태가 바뀌면 가게 메뉴의 추천 여부도 바뀜
+                for (Long menuId : menuIdsByStoreId.getOrDefault(source.storeId(), Set.of())) {
+                    MenuSource menu = menus.get(menuId);
+                    if (menu != null) {
+                        updateContribution(menuSource(menuId), menuContribution(menu));
+                    }
+                }
+            }
+        }));
+    }
+
+    /**
+     * 가게 삭제 반영 (해당 가게의 메뉴도 함께 제거)
+     */
+    public void removeStore(Long storeId) {
+        AfterCommit.run(() -> write(() -> {
+            stores.remove(storeId);
+            updateContribution(storeSource(storeId), null);
+            Set<Long> menuIds = menuIdsByStoreId.remove(storeId);
+            if (menuIds != null) {
+                for (Long menuId : menuIds) {
+                    menus.remove(menuId);
+                    updateContribution(menuSource(menuId), null);
+                }
+            }
+        }));
+    }
+
+    /**
+     * 메뉴 등록/수정 반영
+     */
+    public void indexMenu(Menu menu) {
+        MenuSource source = MenuSource.of(menu);
+        AfterCommit.run(() -> write(() -> {
+            menus.put(source.menuId(), source);
+            menuIdsByStoreId.computeIfAbsent(source.storeId(), id -> new HashSet<>()).add(source.menuId());
+            updateContribution(menuSource(source.menuId()), menuContribution(source));
+        }));
+    }
+
+    /**
+     * 메뉴 삭제 반영
+     */
+    public void removeMenu(Long menuId) {
+        AfterCommit.run(() -> write(() -> {
+            MenuSource previous = menus.remove(menuId);
+            if (previous != null) {
+                Set<Long> menuIds = menuIdsByStoreId.get(previous.storeId());
+                if (menuIds != null) {
+                    menuIds.remove(menuId);
+                }
+            }
+            updateContribution(menuSource(menuId), null);
+        }));
+    }
+
+    /**
+     * 주문 발생 반영 (가게/카테고리 주문 수, 메뉴 판매 수량 증가)
+     *
+     * @param storeId 주문 가게 ID
+     * @param menuQuantities 메뉴 ID별 주문 수량
+     */
+    public void recordOrder(Long storeId, Map<Long, Integer> menuQuantities) {
+        Map<Long, Integer> quantities = Map.copyOf(menuQuantities);
+        AfterCommit.run(() -> write(() -> {
+            storeOrderCounts.merge(storeId, 1L, Long::sum);
+            StoreSource store = stores.get(storeId);
+            if (store != null) {
+                updateContribution(storeSource(storeId), storeContribution(store));
+                categoryOrderCounts.merge(store.categoryId(), 1L, Long::sum);
+                updateContribution(categorySource(store.categoryId()), categoryContribution(store.categoryId()));
+            }
+            quantities.forEach((menuId, quantity) -> {
+                menuOrderQuantities.merge(menuId, quantity.longValue(), Long::sum);
+                MenuSource menu = menus.get(menuId);
+                if (menu != null) {
+                    updateContribution(menuSource(menuId), menuContribution(menu));
+                }
+            });
+        }));
+    }
+
+    /**
+     * 찜 추가/해제 반영
+     *
+     * @param storeId 가게 ID
+     * @param delta 찜 수 변화량 (+1 또는 -1)
+     */
+    public void recordWishlistChange(Long storeId, int delta) {
+        AfterCommit.run(() -> write(() -> {
+            storeWishlistCounts.merge(storeId, (long) delta, Long::sum);
+            StoreSource store = stores.get(storeId);
+            if (store != null) {
+                updateContribution(storeSource(storeId), storeContribution(store));
+            }
+        }));
+    }
+
+    private Contribution storeContribution(StoreSource store) {
+        if (store.status() != StoreStatus.OPEN) {
+            return null;
+        }
+        long weight = BASE_WEIGHT
+                + storeOrderCounts.getOrDefault(store.storeId(), 0L)
+                + WISHLIST_WEIGHT * Math.max(0L, storeWishlistCounts.getOrDefault(store.storeId(), 0L));
+        return new Contribution(store.name(), weight);
+    }
+
+    private Contribution menuContribution(MenuSource menu) {
+        StoreSource store = stores.get(menu.storeId());
+        if (store == null || store.status() != StoreStatus.OPEN) {
+            return null;
+        }
+        return new Contribution(menu.name(), BASE_WEIGHT + menuOrderQuantities.getOrDefault(menu.menuId(), 0L));
+    }
+
+    private Contribution categoryContribution(Long categoryId) {
+        String name = categoryNames.get(categoryId);
+        if (name == null) {
+            return null;
+        }
+        return new Contribution(name, BASE_WEIGHT + Math.max(0L, categoryOrderCounts.getOrDefault(categoryId, 0L)));
+    }
+
+    /**
+     * 출처 기여분 변경 후 영향받는 검색어만 트라이에 반영
+     */
+    private void updateContribution(Source source, Contribution contribution) {
+        String previousKey = keyBySource.get(source);
+        String newKey = setContribution(source, contribution);
+        if (previousKey != null && !previousKey.equals(newKey)) {
+            refreshKey(previousKey);
+        }
+        if (newKey != null) {
+            refreshKey(newKey);
+        }
+    }
+
+    /**
+     * 출처 기여분 교체 (트라이 반영 없음)
+     *
+     * @return 새 기여분의 검색어 (제거된 경우 null)
+     */
+    private String setContribution(Source source, Contribution contribution) {
+        String previousKey = keyBySource.remove(source);
+        if (previousKey != null) {
+            Map<Source, Contribution> contributions = contributionsByKey.get(previousKey);
+            contributions.remove(source);
+            if (contributions.isEmpty()) {
+                contributionsByKey.remove(previousKey);
+            }
+        }
+        if (contribution == null) {
+            return null;
+        }
+        String key = NgramTokenizer.normalize(contribution.text());
+        if (key.isEmpty()) {
+            return null;
+        }
+        keyBySource.put(source, key);
+        contributionsByKey.computeIfAbsent(key, k -> new HashMap<>()).put(source, contribution);
+        return key;
+    }
+
+    private void refreshKey(String key) {
+        if (contributionsByKey.containsKey(key)) {
+            SuggestionTrie.Entry entry = toEntry(key);
+            trie.put(key, entry.text(), entry.type(), entry.weight());
+        } else {
+            trie.remove(key);
+        }
+    }
+
+    /**
+     * 검색어의 기여분 합산
+     * 가중치는 합계, 표시 문구와 종류는 가장 큰 기여분을 따름
+     */
+    private SuggestionTrie.Entry toEntry(String key) {
+        long weight = 0L;
+        Map.Entry<Source, Contribution> top = null;
+        for (Map.Entry<Source, Contribution> entry : contributionsByKey.get(key).entrySet()) {
+            weight += entry.getValue().weight();
+            if (top == null || entry.getValue().weight() > top.getValue().weight()) {
+                top = entry;
+            }
+        }
+        return new SuggestionTrie.Entry(key, top.getValue().text(), top.getKey().type(), weight);
+    }
+
+    private void clear() {
+        ready = false;
+        stores.clear();
+        menus.clear();
+        menuIdsByStoreId.clear();
+        categoryNames.clear();
+        storeOrderCounts.clear();
+        storeWishlistCounts.clear();
+        menuOrderQuantities.clear();
+        categoryOrderCounts.clear();
+        contributionsByKey.clear();
+        keyBySource.clear();
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<Long, Long> toCountMap(List<IdCountView> counts) {
+        return counts.stream()
+                .filter(count -> count.getId() != null && count.getCount() != null)
+                .collect(Collectors.toMap(IdCountView::getId, IdCountView::getCount));
+    }
+
+    private static Source storeSource(Long storeId) {
+        return new Source(SuggestionType.STORE, storeId);
+    }
+
+    private static Source menuSource(Long menuId) {
+        return new Source(SuggestionType.MENU, menuId);
+    }
+
+    private static Source categorySource(Long categoryId) {
+        return new Source(SuggestionType.CATEGORY, categoryId);
+    }
+
+    /**
+     * 추천 검색어
+     */
+    public record Suggestion(String text, SuggestionType type, long weight) {
+    }
+
+    private record Source(SuggestionType type, Long id) {
+    }
+
+    private record Contribution(String text, long weight) {
+    }
+
+    private record StoreSource(Long storeId, String name, Long categoryId, StoreStatus status) {
+        static StoreSource of(Store store) {
+            return new StoreSource(store.getId(), store.getName(), store.getCategoryId(), store.getStatus());
+        }
+    }
+
+    private record MenuSource(Long menuId, Long storeId, String name) {
+        static MenuSource of(Menu menu) {
+            return new MenuSource(menu.getId(), menu.getStoreId(), menu.getName());
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.jeonjueats.search;
+
+import com.jeonjueats.entity.Menu;
+import com.jeonjueats.entity.Store;
+import com.jeonjueats.entity.StoreStatus;
+import com.jeonjueats.repository.MenuRepository;
+import com.jeonjueats.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게/메뉴 통합 검색용 인메모리 역색인
+ * 가게명/메뉴명을 n-gram(1~3음절) 단위로 색인하여 LIKE '%키워드%' 전체 스캔 없이 검색
+ * 초성 검색(예: "ㄷㄱㅂ" → 닭갈비)을 위해 이름의 초성 문자열도 별도 n-gram 색인으로 유지
+ * 애플리케이션 시작 시 전체 색인을 만들고, 이후 사장님 가게/메뉴 변경 시 커밋 후 증분 반영
+ * 다른 서버에서 일어난 변경은 SearchIndexSynchronizer가 주기적으로 반영
+ * 색인 변경 시 변경 전후 이름과 일치하는 검색 결과 캐시도 함께 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+
+    /**
+     * 검색 점수 (가게명 일치 > 메뉴명 일치)
+     */
+    private static final int STORE_NAME_MATCH_SCORE = 100;
+    private static final int STORE_NAME_PREFIX_BONUS = 20;
+    private static final int MENU_NAME_MATCH_SCORE = 10;
+    private static final int MAX_SCORED_MENU_MATCHES = 5;
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final SearchResultCache searchResultCache;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, StoreEntry> stores = new HashMap<>();
+    private final Map<Long, MenuEntry> menus = new HashMap<>();
+    private final Map<Long, Set<Long>> menuIdsByStoreId = new HashMap<>();
+
+    // gram → 가게 ID / 메뉴 ID 목록
+    private final Map<String, Set<Long>> storeNamePostings = new HashMap<>();
+    private final Map<String, Set<Long>> menuNamePostings = new HashMap<>();
+
+    // 초성 gram → 가게 ID / 메뉴 ID 목록
+    private final Map<String, Set<Long>> storeChosungPostings = new HashMap<>();
+    private final Map<String, Set<Long>> menuChosungPostings = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 색인 생성
+     * 색인 생성 전까지의 검색은 DB 조회로 처리됨 (isReady() == false)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            stores.clear();
+            menus.clear();
+            menuIdsByStoreId.clear();
+            storeNamePostings.clear();
+            menuNamePostings.clear();
+            storeChosungPostings.clear();
+            menuChosungPostings.clear();
+
+            storeRepository.findAll().forEach(store -> putStore(StoreEntry.of(store)));
+            menuRepository.findAll().forEach(menu -> putMenu(MenuEntry.of(menu)));
+
+            ready = true;
+            searchResultCache.invalidateAll();
+            log.info("검색 색인 생성 완료 - 가게 {}개, 메뉴 {}개, gram {}개",
+                    stores.size(), menus.size(), storeNamePostings.size() + menuNamePostings.size());
+        } catch (Exception e) {
+            // 색인 생성 실패 시에도 검색은 DB 조회로 계속 동작
+            log.error("검색 색인 생성 실패 - DB 검색으로 대체합니다. 오류: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드로 가게 검색
+     * 가게명 또는 메뉴명에 키워드가 포함된 가게 ID를 점수 내림차순(동점 시 최신 등록순)으로 반환
+     * 키워드가 초성으로만 이루어진 경우 이름의 초성 문자열에서 검색
+     *
+     * @param keyword 검색 키워드
+     * @param status 가게 상태 필터
+     * @return 가게 ID 목록 (정렬됨)
+     */
+    public List<Long> search(String keyword, StoreStatus status) {
+        String query = NgramTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        Set<String> grams = NgramTokenizer.queryGrams(query);
+        boolean chosung = HangulChosung.isChosungQuery(query);
+        Map<String, Set<Long>> storePostings = chosung ? storeChosungPostings : storeNamePostings;
+        Map<String, Set<Long>> menuPostings = chosung ? menuChosungPostings : menuNamePostings;
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = new HashMap<>();
+
+            for (Long storeId : candidates(storePostings, grams)) {
+                StoreEntry store = stores.get(storeId);
+                if (store == null || store.status() != status || !store.searchText(chosung).contains(query)) {
+                    continue;
+                }
+                int score = STORE_NAME_MATCH_SCORE;
+                if (store.searchText(chosung).startsWith(query)) {
+                    score += STORE_NAME_PREFIX_BONUS;
+                }
+                scores.merge(storeId, score, Integer::sum);
+            }
+
+            Map<Long, Integer> menuMatchCounts = new HashMap<>();
+            for (Long menuId : candidates(menuPostings, grams)) {
+                MenuEntry menu = menus.get(menuId);
+                if (menu == null || !menu.searchText(chosung).contains(query)) {
+                    continue;
+                }
+                StoreEntry store = stores.get(menu.storeId());
+                if (store == null || store.status() != status) {
+                    continue;
+                }
+                menuMatchCounts.merge(menu.storeId(), 1, Integer::sum);
+            }
+            menuMatchCounts.forEach((storeId, count) -> scores.merge(
+                    storeId, Math.min(count, MAX_SCORED_MENU_MATCHES) * MENU_NAME_MATCH_SCORE, Integer::sum));
+
+            Comparator<Long> order = Comparator.<Long>comparingInt(scores::get).reversed()
+                    .thenComparing(storeId -> stores.get(storeId).createdAt(),
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                    .thenComparing(Comparator.reverseOrder());
+
+            List<Long> result = new ArrayList<>(scores.keySet());
+            result.sort(order);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가게 등록/수정/상태 변경 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void indexStore(Store store) {
+        StoreEntry entry = StoreEntry.of(store);
+        AfterCommit.run(() -> write(() -> {
+            // 상태 변경 시 메뉴명으로 검색되던 결과도 달라지므로 가게의 메뉴명까지 무효화 대상
+            List<String> affectedNames = storeAndMenuNames(entry.storeId());
+            putStore(entry);
+            affectedNames.add(entry.name());
+            searchResultCache.invalidateMatching(affectedNames);
+        }));
+    }
+
+    /**
+     * 가게 삭제 반영 (해당 가게의 메뉴도 함께 제거)
+     */
+    public void removeStore(Long storeId) {
+        AfterCommit.run(() -> write(() -> {
+            List<String> affectedNames = storeAndMenuNames(storeId);
+            deleteStore(storeId);
+            Set<Long> menuIds = menuIdsByStoreId.remove(storeId);
+            if (menuIds != null) {
+                menuIds.forEach(menuId -> deleteMenu(menuId, false));
+            }
+            searchResultCache.invalidateMatching(affectedNames);
+        }));
+    }
+
+    /**
+     * 메뉴 등록/수정 반영
+     */
+    public void indexMenu(Menu menu) {
+        MenuEntry entry = MenuEntry.of(menu);
+        AfterCommit.run(() -> write(() -> {
+            List<String> affectedNames = new ArrayList<>();
+            MenuEntry previous = menus.get(entry.menuId());
+            if (previous != null) {
+                affectedNames.add(previous.name());
+            }
+            putMenu(entry);
+            affectedNames.add(entry.name());
+            searchResultCache.invalidateMatching(affectedNames);
+        }));
+    }
+
+    /**
+     * 메뉴 삭제 반영
+     */
+    public void removeMenu(Long menuId) {
+        AfterCommit.run(() -> write(() -> {
+            MenuEntry previous = menus.get(menuId);
+            deleteMenu(menuId, true);
+            searchResultCache.invalidateMatching(previous != null ? List.of(previous.name()) : List.of());
+        }));
+    }
+
+    /**
+     * 가게명 + 해당 가게의 메뉴명 목록 (캐시 무효화 대상 계산용)
+     */
+    private List<String> storeAndMenuNames(Long storeId) {
+        List<String> names = new ArrayList<>();
+        StoreEntry store = stores.get(storeId);
+        if (store != null) {
+            names.add(store.name());
+        }
+        for (Long menuId : menuIdsByStoreId.getOrDefault(storeId, Set.of())) {
+            MenuEntry menu = menus.get(menuId);
+            if (menu != null) {
+                names.add(menu.name());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 질의 gram들의 게시 목록 교집합 (가장 짧은 목록부터 교차)
+     */
+    private Set<Long> candidates(Map<String, Set<Long>> postings, Set<String> grams) {
+        List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void putStore(StoreEntry entry) {
+        deleteStore(entry.storeId());
+        stores.put(entry.storeId(), entry);
+        addPostings(storeNamePostings, entry.name(), entry.storeId());
+        addPostings(storeChosungPostings, entry.chosungName(), entry.storeId());
+    }
+
+    private void deleteStore(Long storeId) {
+        StoreEntry previous = stores.remove(storeId);
+        if (previous != null) {
+            removePostings(storeNamePostings, previous.name(), storeId);
+            removePostings(storeChosungPostings, previous.chosungName(), storeId);
+        }
+    }
+
+    private void putMenu(MenuEntry entry) {
+        deleteMenu(entry.menuId(), true);
+        menus.put(entry.menuId(), entry);
+        menuIdsByStoreId.computeIfAbsent(entry.storeId(), id -> new HashSet<>()).add(entry.menuId());
+        addPostings(menuNamePostings, entry.name(), entry.menuId());
+        addPostings(menuChosungPostings, entry.chosungName(), entry.menuId());
+    }
+
+    private void deleteMenu(Long menuId, boolean unlinkStore) {
+        MenuEntry previous = menus.remove(menuId);
+        if (previous == null) {
+            return;
+        }
+        removePostings(menuNamePostings, previous.name(), menuId);
+        removePostings(menuChosungPostings, previous.chosungName(), menuId);
+        if (unlinkStore) {
+            Set<Long> menuIds = menuIdsByStoreId.get(previous.storeId());
+            if (menuIds != null) {
+                menuIds.remove(menuId);
+                if (menuIds.isEmpty()) {
+                    menuIdsByStoreId.remove(previous.storeId());
+                }
+            }
+        }
+    }
+
+    private void addPostings(Map<String, Set<Long>> postings, String name, Long id) {
+        for (String gram : NgramTokenizer.indexGrams(name)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removePostings(Map<String, Set<Long>> postings, String name, Long id) {
+        for (String gram : NgramTokenizer.indexGrams(name)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 가게 정보 (정규화된 가게명 + 초성)
+     */
+    private record StoreEntry(Long storeId, String name, String chosungName, StoreStatus status,
+                              LocalDateTime createdAt) {
+        static StoreEntry of(Store store) {
+            String name = NgramTokenizer.normalize(store.getName());
+            return new StoreEntry(store.getId(), name, HangulChosung.toChosung(name),
+                    store.getStatus(), store.getCreatedAt());
+        }
+
+        String searchText(boolean chosung) {
+            return chosung ? chosungName : name;
+        }
+    }
+
+    /**
+     * 색인된 메뉴 정보 (정규화된 메뉴명 + 초성)
+     */
+    private record MenuEntry(Long menuId, Long storeId, String name, String chosungName) {
+        static MenuEntry of(Menu menu) {
+            String name = NgramTokenizer.normalize(menu.getName());
+            return new MenuEntry(menu.getId(), menu.getStoreId(), name, HangulChosung.toChosung(name));
+        }
+
+        String searchText(boolean chosung) {
+            return chosung ? chosungName : name;
+        }
+    }
+}
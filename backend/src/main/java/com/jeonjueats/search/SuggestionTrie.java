@@ -0,0 +1,230 @@
+package com.jeonjueats.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 검색어 자동완성용 접두사 트라이
+ * 각 노드가 하위 검색어 중 가중치 상위 K개를 미리 보관하므로 조회 시 하위 트리를 탐색하지 않음
+ * (조회 비용 = 접두사 길이만큼의 노드 이동)
+ * 자식 노드는 정렬된 char 배열 + 노드 배열로 보관하여 노드마다 HashMap을 두는 것보다 메모리를 적게 사용
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 함
+ */
+class SuggestionTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::weight).reversed()
+            .thenComparing(Entry::key);
+
+    private final int topK;
+    private final Node root = new Node();
+    private int size;
+
+    SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 전체 재구성
+     * 항목을 모두 삽입한 뒤 후위 순회로 상위 K개를 한 번만 계산 (항목마다 루트까지 재계산하지 않음)
+     */
+    void rebuild(Collection<Entry> entries) {
+        root.keys = NO_KEYS;
+        root.children = NO_CHILDREN;
+        root.entry = null;
+        root.top = NO_ENTRIES;
+        size = 0;
+
+        for (Entry entry : entries) {
+            if (entry.key().isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < entry.key().length(); i++) {
+                node = node.childOrCreate(entry.key().charAt(i));
+            }
+            if (node.entry == null) {
+                size++;
+            }
+            node.entry = entry;
+        }
+        refreshSubtree(root);
+    }
+
+    /**
+     * 검색어 추가 또는 갱신
+     *
+     * @param key 정규화된 검색어 (트라이 경로)
+     * @param text 화면 표시용 원문
+     * @param type 검색어 종류
+     * @param weight 인기도 가중치
+     */
+    void put(String key, String text, SuggestionType type, long weight) {
+        if (key.isEmpty()) {
+            return;
+        }
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            path[i + 1] = node;
+        }
+        if (node.entry == null) {
+            size++;
+        }
+        node.entry = new Entry(key, text, type, weight);
+        refreshPath(path, path.length - 1);
+    }
+
+    /**
+     * 검색어 제거 (비어 있는 노드는 정리)
+     */
+    void remove(String key) {
+        if (key.isEmpty()) {
+            return;
+        }
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+        if (node.entry == null) {
+            return;
+        }
+        node.entry = null;
+        size--;
+
+        int depth = path.length - 1;
+        while (depth > 0 && path[depth].entry == null && path[depth].keys.length == 0) {
+            path[depth - 1].removeChild(key.charAt(depth - 1));
+            depth--;
+        }
+        refreshPath(path, depth);
+    }
+
+    /**
+     * 접두사로 시작하는 검색어 상위 항목 조회 (가중치 내림차순)
+     *
+     * @param prefix 정규화된 접두사
+     * @param limit 최대 개수 (topK 이하)
+     */
+    List<Entry> top(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int count = Math.min(limit, node.top.length);
+        return List.of(Arrays.copyOf(node.top, count));
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void refreshSubtree(Node node) {
+        for (Node child : node.children) {
+            refreshSubtree(child);
+        }
+        node.refreshTop(topK);
+    }
+
+    /**
+     * 변경된 노드부터 루트까지 상위 K개 목록 재계산
+     */
+    private void refreshPath(Node[] path, int fromDepth) {
+        for (int depth = fromDepth; depth >= 0; depth--) {
+            path[depth].refreshTop(topK);
+        }
+    }
+
+    /**
+     * 자동완성 항목
+     */
+    record Entry(String key, String text, SuggestionType type, long weight) {
+    }
+
+    private static final class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Entry entry;
+        private Entry[] top = NO_ENTRIES;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node created = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = created;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        /**
+         * 자기 항목 + 자식들의 상위 K개를 합쳐 상위 K개 재계산
+         */
+        void refreshTop(int topK) {
+            List<Entry> candidates = new ArrayList<>();
+            if (entry != null) {
+                candidates.add(entry);
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            if (candidates.isEmpty()) {
+                top = NO_ENTRIES;
+                return;
+            }
+            candidates.sort(RANKING);
+            top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_ENTRIES);
+        }
+    }
+}
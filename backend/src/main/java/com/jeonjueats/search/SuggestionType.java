@@ -0,0 +1,23 @@
+package com.jeonjueats.search;
+
+/**
+ * 자동완성 검색어 종류 Enum
+ * STORE: 가게명
+ * MENU: 메뉴명
+ * CATEGORY: 카테고리명
+ */
+public enum SuggestionType {
+    STORE("가게"),
+    MENU("메뉴"),
+    CATEGORY("카테고리");
+
+    private final String description;
+
+    SuggestionType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,273 @@
+package com.jeonjueats.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실시간 인기 검색어 집계기
+ * 검색어를 MySQL에 기록하지 않고 고정 크기 메모리 안에서 최근 1시간 인기 검색어를 추정
+ * - 시간 버킷(5분 × 12개)을 순환하는 슬라이딩 윈도우
+ * - 버킷마다 Count-Min Sketch(빈도 추정) + Space-Saving(상위 후보 유지)
+ * - 기록은 잠금 없는 큐에 넣기만 하고(가득 차면 버림), 집계 반영은 애플리케이션 작업 실행기에서 일괄 처리
+ *   (가상 스레드 모드에서는 가상 스레드에서 실행됨)
+ * 검색어 종류/트래픽과 무관하게 메모리 사용량이 고정됨
+ */
+@Slf4j
+@Component
+public class TrendingKeywordTracker {
+
+    private static final long BUCKET_MILLIS = 5 * 60 * 1000L;
+    private static final int BUCKET_COUNT = 12;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int CANDIDATES_PER_BUCKET = 64;
+
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final int DRAIN_THRESHOLD = 256;
+
+    private final Bucket[] buckets = new Bucket[BUCKET_COUNT];
+
+    // 기록 버퍼 (잠금 없는 큐 + 대략적인 크기 제한)
+    private final Queue<Hit> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private final Executor taskExecutor;
+
+    public TrendingKeywordTracker(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 검색어 기록 (잠금 없음)
+     * 버퍼가 가득 차면 기록을 버림 (인기 검색어 추정에는 영향이 거의 없음)
+     *
+     * @param keyword 사용자가 입력한 검색어
+     */
+    public void record(String keyword) {
+        String key = NgramTokenizer.normalize(keyword);
+        if (key.isEmpty()) {
+            return;
+        }
+        if (bufferSize.incrementAndGet() > BUFFER_CAPACITY) {
+            bufferSize.decrementAndGet();
+            return;
+        }
+        buffer.offer(new Hit(key, keyword.trim(), System.currentTimeMillis()));
+
+        if (bufferSize.get() >= DRAIN_THRESHOLD && drainScheduled.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                // 실행기가 작업을 거부하면(종료 중, 대기열 가득 참) 다음 기록 때 다시 예약할 수 있도록 되돌림
+                drainScheduled.set(false);
+                log.warn("인기 검색어 집계 반영 예약 실패 - 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 최근 윈도우의 인기 검색어 조회
+     * 버킷별 Space-Saving 후보를 모은 뒤, 윈도우 내 모든 버킷의 Count-Min Sketch 추정치 합으로 순위 결정
+     *
+     * @param limit 최대 개수
+     * @return 인기 검색어 목록 (추정 검색 수 내림차순)
+     */
+    public List<TrendingKeyword> trending(int limit) {
+        drain();
+
+        drainLock.lock();
+        try {
+            long currentEpoch = epochOf(System.currentTimeMillis());
+            List<Bucket> liveBuckets = new ArrayList<>();
+            Map<String, String> candidates = new HashMap<>();
+            for (Bucket bucket : buckets) {
+                if (bucket.isLive(currentEpoch)) {
+                    liveBuckets.add(bucket);
+                    bucket.candidates.forEach((key, counter) -> candidates.putIfAbsent(key, counter.displayText));
+                }
+            }
+
+            List<TrendingKeyword> result = new ArrayList<>(candidates.size());
+            candidates.forEach((key, displayText) -> {
+                long count = 0;
+                for (Bucket bucket : liveBuckets) {
+                    count += bucket.estimate(key);
+                }
+                result.add(new TrendingKeyword(displayText, count));
+            });
+            result.sort(Comparator.comparingLong(TrendingKeyword::count).reversed()
+                    .thenComparing(TrendingKeyword::keyword));
+            return result.subList(0, Math.min(limit, result.size()));
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 기록을 버킷에 반영 (한 번에 한 스레드만 수행)
+     */
+    private void drain() {
+        drainLock.lock();
+        try {
+            Hit hit;
+            while ((hit = buffer.poll()) != null) {
+                bufferSize.decrementAndGet();
+                apply(hit);
+            }
+        } catch (Exception e) {
+            log.warn("인기 검색어 집계 반영 실패 - 오류: {}", e.getMessage());
+        } finally {
+            drainScheduled.set(false);
+            drainLock.unlock();
+        }
+    }
+
+    private void apply(Hit hit) {
+        long epoch = epochOf(hit.recordedAt());
+        Bucket bucket = buckets[(int) (epoch % BUCKET_COUNT)];
+        if (bucket.epoch > epoch) {
+            return; // 이미 윈도우를 벗어난 기록
+        }
+        if (bucket.epoch < epoch) {
+            bucket.reset(epoch);
+        }
+        bucket.add(hit.key(), hit.displayText());
+    }
+
+    private static long epochOf(long timeMillis) {
+        return timeMillis / BUCKET_MILLIS;
+    }
+
+    /**
+     * 인기 검색어
+     *
+     * @param keyword 검색어 (최근 입력된 원문)
+     * @param count 최근 윈도우 내 추정 검색 수
+     */
+    public record TrendingKeyword(String keyword, long count) {
+    }
+
+    private record Hit(String key, String displayText, long recordedAt) {
+    }
+
+    /**
+     * 시간 버킷 (drainLock 안에서만 접근)
+     */
+    private static final class Bucket {
+
+        private final long[] sketch = new long[SKETCH_DEPTH * SKETCH_WIDTH];
+        private final Map<String, SpaceSavingCounter> candidates = new HashMap<>();
+        private long epoch = -1;
+
+        boolean isLive(long currentEpoch) {
+            return epoch > currentEpoch - BUCKET_COUNT;
+        }
+
+        void reset(long newEpoch) {
+            Arrays.fill(sketch, 0L);
+            candidates.clear();
+            epoch = newEpoch;
+        }
+
+        void add(String key, String displayText) {
+            long hash = hash64(key);
+            for (int row = 0; row < SKETCH_DEPTH; row++) {
+                sketch[row * SKETCH_WIDTH + index(hash, row)]++;
+            }
+            offerCandidate(key, displayText);
+        }
+
+        /**
+         * Count-Min Sketch 추정치 (행별 카운터의 최솟값)
+         */
+        long estimate(String key) {
+            long hash = hash64(key);
+            long min = Long.MAX_VALUE;
+            for (int row = 0; row < SKETCH_DEPTH; row++) {
+                min = Math.min(min, sketch[row * SKETCH_WIDTH + index(hash, row)]);
+            }
+            return min;
+        }
+
+        /**
+         * Space-Saving 후보 갱신
+         * 후보가 가득 차면 카운트가 가장 작은 후보를 새 검색어로 교체 (카운트는 최솟값 + 1부터 시작)
+         */
+        private void offerCandidate(String key, String displayText) {
+            SpaceSavingCounter counter = candidates.get(key);
+            if (counter != null) {
+                counter.count++;
+                counter.displayText = displayText;
+                return;
+            }
+            if (candidates.size() < CANDIDATES_PER_BUCKET) {
+                candidates.put(key, new SpaceSavingCounter(displayText, 1));
+                return;
+            }
+            Map.Entry<String, SpaceSavingCounter> min = null;
+            for (Map.Entry<String, SpaceSavingCounter> entry : candidates.entrySet()) {
+                if (min == null || entry.getValue().count < min.getValue().count) {
+                    min = entry;
+                }
+            }
+            candidates.remove(min.getKey());
+            candidates.put(key, new SpaceSavingCounter(displayText, min.getValue().count + 1));
+        }
+
+        /**
+         * 행별 위치 (이중 해싱: h1 + row × h2)
+         * 64비트 해시의 하위/상위 32비트를 서로 독립인 두 해시로 사용
+         * (String.hashCode()에 시드만 XOR하면 hashCode가 같은 검색어는 모든 행에서 충돌함)
+         */
+        private static int index(long hash, int row) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1; // 홀수로 만들어 행마다 다른 위치가 되도록 함
+            return ((h1 + row * h2) & Integer.MAX_VALUE) % SKETCH_WIDTH;
+        }
+
+        /**
+         * UTF-8 바이트의 64비트 해시 (FNV-1a + MurmurHash3 fmix64 마무리)
+         */
+        private static long hash64(String key) {
+            long h = 0xCBF29CE484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b & 0xFF;
+                h *= 0x100000001B3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB9FE1A85EC53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+
+    private static final class SpaceSavingCounter {
+
+        private String displayText;
+        private long count;
+
+        SpaceSavingCounter(String displayText, long count) {
+            this.displayText = displayText;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jeonjueats.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 인증된 사용자 ID를 컨트롤러 파라미터로 주입
+ * 인증 필터가 SecurityContext에 저장한 JwtPrincipal에서 꺼내므로 토큰을 다시 파싱하지 않음
+ *
+ * 사용 예) public ResponseEntity<?> getMyCart(@Parameter(hidden = true) @CurrentUserId Long userId)
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+}
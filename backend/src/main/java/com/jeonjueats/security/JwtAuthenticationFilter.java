@@ -46,23 +46,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         if (token != null) {
             try {
-                // 2. JWT 토큰 유효성 검증
-                if (jwtUtil.validateToken(token)) {
-                    // 3. 토큰에서 사용자 정보 추출
-                    String email = jwtUtil.getUserEmailFromToken(token);
-                    Long userId = jwtUtil.getUserIdFromToken(token);
-                    String role = jwtUtil.getUserRoleFromToken(token);
+                // 2. JWT 토큰 검증 및 사용자 정보 추출 (한 번만 파싱)
+                JwtPrincipal principal = jwtUtil.parsePrincipal(token);
+                if (principal != null) {
+                    log.debug("JWT 인증 성공: userId={}, email={}, role={}",
+                            principal.userId(), principal.email(), principal.role());
                     
-                    log.debug("JWT 인증 성공: userId={}, email={}, role={}", userId, email, role);
-                    
-                    // 4. Spring Security Authentication 객체 생성
+                    // 3. Spring Security Authentication 객체 생성
                     Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            email,  // principal: 사용자 식별자 (이메일)
-                            null,   // credentials: 이미 검증된 토큰이므로 null
-                            Collections.singletonList(new SimpleGrantedAuthority(role))  // authorities: 권한 정보
+                            principal,  // principal: 사용자 정보 (컨트롤러에서 @CurrentUserId로 사용)
+                            null,       // credentials: 이미 검증된 토큰이므로 null
+                            Collections.singletonList(new SimpleGrantedAuthority(principal.role()))  // authorities: 권한 정보
                     );
                     
-                    // 5. SecurityContext에 인증 정보 설정
+                    // 4. SecurityContext에 인증 정보 설정
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     
                 } else {
@@ -75,7 +72,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
         
-        // 6. 다음 필터로 요청 전달
+        // 5. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
 
@@ -0,0 +1,20 @@
+package com.jeonjueats.security;
+
+import java.security.Principal;
+
+/**
+ * JWT 인증 사용자 정보
+ * 인증 필터가 토큰을 한 번만 파싱하여 SecurityContext의 principal로 저장
+ * (getName()은 기존과 같이 이메일을 반환)
+ *
+ * @param userId 사용자 ID
+ * @param email 사용자 이메일 (토큰 Subject)
+ * @param role 사용자 권한 (ROLE_USER, ROLE_OWNER)
+ */
+public record JwtPrincipal(Long userId, String email, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
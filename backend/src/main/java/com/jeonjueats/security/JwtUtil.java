@@ -2,6 +2,7 @@ package com.jeonjueats.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,6 +42,22 @@ public class JwtUtil {
      */
     @Value("${jwt.expiration-time}")
     private long expirationTime;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * 서명 키와 파서는 불변이므로 기동 시 한 번만 생성하여 재사용
+     */
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)              // 서명 검증용 키 설정 (0.12.x API)
+                .build();
+    }
     
     /**
      * JWT Access Token 생성
@@ -66,7 +83,7 @@ public class JwtUtil {
                 .claim("role", role)                  // 권한 정보 클레임 추가
                 .setIssuedAt(now)                     // 발급 시간
                 .setExpiration(expiryDate)            // 만료 시간
-                .signWith(getSigningKey())            // 비밀키로 서명
+                .signWith(signingKey)                 // 비밀키로 서명
                 .compact();                           // 최종 토큰 문자열 생성
     }
     
@@ -103,6 +120,33 @@ public class JwtUtil {
         return claims.get("role", String.class);
     }
     
+    /**
+     * JWT 토큰을 한 번만 파싱하여 사용자 정보 추출
+     * 서명/만료 검증과 클레임 추출을 한 번에 수행 (인증 필터에서 사용)
+     * 이미 검증한 토큰은 만료 전까지 캐시된 결과를 사용하여 서명 검증을 생략
+     *
+     * @param token JWT 토큰 문자열
+     * @return 사용자 정보, 토큰이 유효하지 않으면 null
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        JwtPrincipal cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = getClaimsFromToken(token);
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class));
+            verifiedTokenCache.put(token, principal, claims.getExpiration());
+            return principal;
+        } catch (JwtException | IllegalArgumentException e) {
+            logInvalidToken(e);
+            return null;
+        }
+    }
+
     /**
      * JWT 토큰 유효성 검증
      * 
@@ -118,18 +162,24 @@ public class JwtUtil {
         try {
             getClaimsFromToken(token);
             return true;
-        } catch (MalformedJwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
+            logInvalidToken(e);
+        }
+        return false;
+    }
+
+    private void logInvalidToken(RuntimeException e) {
+        if (e instanceof MalformedJwtException) {
             log.error("잘못된 JWT 토큰 형식: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
+        } else if (e instanceof ExpiredJwtException) {
             log.error("만료된 JWT 토큰: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
+        } else if (e instanceof UnsupportedJwtException) {
             log.error("지원되지 않는 JWT 토큰: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
+        } else if (e instanceof IllegalArgumentException) {
             log.error("JWT 토큰이 비어있음: {}", e.getMessage());
-        } catch (SecurityException e) {
+        } else {
             log.error("JWT 서명 검증 실패: {}", e.getMessage());
         }
-        return false;
     }
     
     /**
@@ -140,22 +190,11 @@ public class JwtUtil {
      * @throws JwtException 토큰 파싱 실패 시
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())         // 서명 검증용 키 설정 (0.12.x API)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)            // 토큰 파싱 및 서명 검증 (0.12.x API)
                 .getPayload();                       // Claims 반환 (0.12.x API)
     }
     
-    /**
-     * JWT 서명/검증용 비밀키 생성 (내부 메서드)
-     * 
-     * @return HMAC-SHA 알고리즘용 SecretKey 객체
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-    }
-    
     /**
      * HTTP 요청 헤더에서 JWT 토큰 추출
      * "Bearer [TOKEN]" 형식에서 [TOKEN] 부분만 추출
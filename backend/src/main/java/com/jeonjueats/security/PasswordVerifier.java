@@ -0,0 +1,98 @@
+package com.jeonjueats.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증 전용 실행기
+ * BCrypt 검증은 CPU를 수십 ms씩 점유하므로 요청 스레드(Tomcat)가 아닌 전용 스레드 풀에서 수행
+ * - 스레드 수와 대기열 크기가 고정되어 로그인 폭주 시에도 다른 API의 요청 스레드를 잠식하지 않음
+ * - 대기열이 가득 차면 기다리지 않고 즉시 거절 (LOGIN_BUSY)
+ * - 저장된 해시의 cost가 현재 설정보다 낮으면 검증 성공 시 같은 스레드에서 새 해시를 생성
+ * CPU 작업이므로 가상 스레드 실행 모드에서도 고정 크기 플랫폼 스레드 풀을 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * 비밀번호 검증 스레드 수
+     */
+    @Value("${app.security.login.hash-threads:2}")
+    private int hashThreads;
+
+    /**
+     * 검증 대기열 크기 (초과 시 즉시 거절)
+     */
+    @Value("${app.security.login.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-verifier-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(hashThreads, hashThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 비밀번호 검증 (비동기)
+     *
+     * @param rawPassword 입력된 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 검증 결과 (일치 여부 + cost 변경 시 새 해시)
+     * @throws RuntimeException 대기열이 가득 찬 경우 (LOGIN_BUSY)
+     */
+    public CompletableFuture<Result> verify(String rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                    return new Result(false, null);
+                }
+                String upgradedPassword = passwordEncoder.upgradeEncoding(encodedPassword)
+                        ? passwordEncoder.encode(rawPassword)
+                        : null;
+                return new Result(true, upgradedPassword);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("로그인 요청 과다로 비밀번호 검증 거절 - 대기: {}건", executor.getQueue().size());
+            throw new RuntimeException("LOGIN_BUSY");
+        }
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     *
+     * @param matched 비밀번호 일치 여부
+     * @param upgradedPassword 현재 cost로 다시 만든 해시 (변경이 필요 없으면 null)
+     */
+    public record Result(boolean matched, String upgradedPassword) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.jeonjueats.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증 완료된 JWT 캐시
+ * 같은 Access Token으로 반복 요청하는 클라이언트(TWA 앱 등)를 위해 서명 검증/클레임 파싱 결과를 보관
+ * - 키: 토큰 원문이 아닌 SHA-256 다이제스트 (메모리에 토큰을 그대로 남기지 않음)
+ * - 만료: 토큰의 exp 시각까지만 유효 (만료된 토큰은 캐시에 있어도 재검증 → 만료 처리)
+ * - 크기 제한: 최대 개수를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차면 일부 항목을 제거
+ * - 조회는 ConcurrentHashMap 읽기만 수행 (잠금 없음)
+ * 적중률은 actuator metrics(jwt.token.cache.*)로 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final String METRIC_PREFIX = "jwt.token.cache";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 사용 여부
+     */
+    @Value("${app.security.token-cache.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 최대 보관 토큰 수
+     */
+    @Value("${app.security.token-cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<String, CachedToken> entries = new ConcurrentHashMap<>();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "hit")
+                .description("검증된 토큰 캐시 적중 수").register(meterRegistry);
+        missCounter = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "miss")
+                .description("검증된 토큰 캐시 미적중 수").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", entries, Map::size)
+                .description("캐시된 토큰 수").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 사용자 정보 (없거나 만료되었으면 null)
+     */
+    public JwtPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String key = digest(token);
+        CachedToken cached = entries.get(key);
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, cached);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached.principal();
+    }
+
+    /**
+     * 검증 결과 저장
+     *
+     * @param token JWT 토큰 문자열
+     * @param principal 검증된 사용자 정보
+     * @param expiration 토큰 만료 시각 (exp 클레임, 없으면 저장하지 않음)
+     */
+    public void put(String token, JwtPrincipal principal, Date expiration) {
+        if (!enabled || expiration == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), new CachedToken(principal, expiration.getTime()));
+    }
+
+    /**
+     * 만료 항목 정리 후에도 가득 차 있으면 1/10을 임의로 제거
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(cached -> cached.isExpired(now));
+
+        int excess = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("검증된 토큰 캐시 정리 - 남은 항목: {}개", entries.size());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedToken(JwtPrincipal principal, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
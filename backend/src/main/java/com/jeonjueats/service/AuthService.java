@@ -10,12 +10,15 @@ import com.jeonjueats.entity.UserRole;
 import com.jeonjueats.repository.CartRepository;
 import com.jeonjueats.repository.UserRepository;
 import com.jeonjueats.security.JwtUtil;
+import com.jeonjueats.security.PasswordVerifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 관련 비즈니스 로직을 처리하는 서비스
  * 회원가입, 로그인, 로그아웃 기능 제공
@@ -29,6 +32,7 @@ public class AuthService {
     private final CartRepository cartRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordVerifier passwordVerifier;
 
     /**
      * 회원가입 처리
@@ -104,13 +108,13 @@ public class AuthService {
     /**
      * 사용자 로그인
      * 이메일과 비밀번호로 인증 후 JWT 토큰 발급
+     * 비밀번호 검증(BCrypt)은 전용 스레드 풀에서 수행되며, 요청 스레드는 결과를 기다리지 않음
      *
      * @param requestDto 로그인 요청 정보 (이메일, 비밀번호)
      * @return 로그인 응답 정보 (토큰, 사용자 정보)
-     * @throws RuntimeException 인증 실패 시
+     * @throws RuntimeException 인증 실패 시 (AUTHENTICATION_FAILED), 로그인 요청 과다 시 (LOGIN_BUSY)
      */
-    @Transactional(readOnly = true)
-    public LoginResponseDto login(LoginRequestDto requestDto) {
+    public CompletableFuture<LoginResponseDto> login(LoginRequestDto requestDto) {
         log.info("로그인 요청: email={}", requestDto.getEmail());
 
         // 1. 이메일로 사용자 조회
@@ -120,23 +124,32 @@ public class AuthService {
                     return new RuntimeException("AUTHENTICATION_FAILED");
                 });
 
-        // 2. 비밀번호 검증
-        if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
-            log.warn("잘못된 비밀번호로 로그인 시도: email={}", requestDto.getEmail());
-            throw new RuntimeException("AUTHENTICATION_FAILED");
-        }
-
-        // 3. JWT 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(user.getId(), user.getEmail(), user.getRole().name());
-        log.info("로그인 성공: userId={}, email={}", user.getId(), user.getEmail());
-
-        // 4. 응답 DTO 생성 및 반환
-        return LoginResponseDto.of(
-                accessToken,
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getRole().name()
-        );
+        // 2. 비밀번호 검증 (전용 스레드 풀)
+        return passwordVerifier.verify(requestDto.getPassword(), user.getPassword())
+                .thenApply(result -> {
+                    if (!result.matched()) {
+                        log.warn("잘못된 비밀번호로 로그인 시도: email={}", requestDto.getEmail());
+                        throw new RuntimeException("AUTHENTICATION_FAILED");
+                    }
+
+                    // 3. BCrypt cost가 변경되었으면 새 해시로 교체
+                    if (result.upgradedPassword() != null) {
+                        userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), result.upgradedPassword());
+                        log.info("비밀번호 해시 cost 갱신: userId={}", user.getId());
+                    }
+
+                    // 4. JWT 토큰 생성
+                    String accessToken = jwtUtil.createAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+                    log.info("로그인 성공: userId={}, email={}", user.getId(), user.getEmail());
+
+                    // 5. 응답 DTO 생성 및 반환
+                    return LoginResponseDto.of(
+                            accessToken,
+                            user.getId(),
+                            user.getEmail(),
+                            user.getNickname(),
+                            user.getRole().name()
+                    );
+                });
     }
-} 
\ No newline at end of file
+}
@@ -25,7 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -176,13 +179,16 @@ public class CartService {
         Store store = storeRepository.findById(cart.getStoreId())
             .orElseThrow(() -> new StoreNotFoundException(cart.getStoreId()));
         
+        // 메뉴 정보 일괄 조회 (아이템 수와 무관하게 IN 쿼리 1회)
+        Map<Long, Menu> menuMap = loadMenuMap(cartItems);
+        
         // 장바구니 아이템 DTO 변환
         List<CartItemResponseDto> itemDtos = cartItems.stream()
-            .map(this::convertToCartItemDto)
+            .map(item -> convertToCartItemDto(item, findLoadedMenu(menuMap, item.getMenuId())))
             .collect(Collectors.toList());
         
-        // 주문 요약 정보 계산
-        OrderSummary summary = calculateOrderSummary(cartItems, store);
+        // 주문 요약 정보 계산 (이미 로딩된 메뉴 정보 사용)
+        OrderSummary summary = calculateOrderSummary(cartItems, menuMap, store);
         
         log.info("장바구니 조회 완료 - 사용자 ID: {}, 아이템 수: {}, 총 금액: {}", 
                 userId, itemDtos.size(), summary.finalPrice);
@@ -224,12 +230,42 @@ public class CartService {
     }
     
     /**
-     * CartItem을 CartItemResponseDto로 변환
+     * 장바구니 아이템들의 메뉴 정보를 한 번에 조회하여 ID 기준 맵으로 반환
+     */
+    private Map<Long, Menu> loadMenuMap(List<CartItem> cartItems) {
+        Set<Long> menuIds = cartItems.stream()
+            .map(CartItem::getMenuId)
+            .collect(Collectors.toSet());
+        
+        return menuRepository.findByIdInAndIsDeletedFalse(menuIds).stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+    }
+    
+    /**
+     * 일괄 조회된 메뉴 맵에서 메뉴 조회 (삭제된 메뉴는 기존과 동일하게 예외 처리)
+     */
+    private Menu findLoadedMenu(Map<Long, Menu> menuMap, Long menuId) {
+        Menu menu = menuMap.get(menuId);
+        if (menu == null) {
+            throw new MenuNotFoundException(menuId);
+        }
+        return menu;
+    }
+    
+    /**
+     * CartItem을 CartItemResponseDto로 변환 (단건 처리용)
      */
     private CartItemResponseDto convertToCartItemDto(CartItem cartItem) {
         Menu menu = menuRepository.findByIdAndIsDeletedFalse(cartItem.getMenuId())
             .orElseThrow(() -> new MenuNotFoundException(cartItem.getMenuId()));
         
+        return convertToCartItemDto(cartItem, menu);
+    }
+    
+    /**
+     * CartItem을 이미 조회된 Menu 정보로 CartItemResponseDto 변환
+     */
+    private CartItemResponseDto convertToCartItemDto(CartItem cartItem, Menu menu) {
         BigDecimal itemTotalPrice = menu.getPrice().multiply(BigDecimal.valueOf(cartItem.getQuantity()));
         
         return CartItemResponseDto.builder()
@@ -248,7 +284,7 @@ public class CartService {
     /**
      * 주문 요약 정보 계산
      */
-    private OrderSummary calculateOrderSummary(List<CartItem> cartItems, Store store) {
+    private OrderSummary calculateOrderSummary(List<CartItem> cartItems, Map<Long, Menu> menuMap, Store store) {
         // 총 수량 계산
         int totalQuantity = cartItems.stream()
             .mapToInt(CartItem::getQuantity)
@@ -256,11 +292,8 @@ public class CartService {
         
         // 총 상품 금액 계산
         BigDecimal totalPrice = cartItems.stream()
-            .map(item -> {
-                Menu menu = menuRepository.findByIdAndIsDeletedFalse(item.getMenuId())
-                    .orElseThrow(() -> new MenuNotFoundException(item.getMenuId()));
-                return menu.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
-            })
+            .map(item -> findLoadedMenu(menuMap, item.getMenuId()).getPrice()
+                .multiply(BigDecimal.valueOf(item.getQuantity())))
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         // 배달비 (가게별 고정)
@@ -1,27 +1,26 @@
 package com.jeonjueats.service;
 
 import com.jeonjueats.dto.ImageUploadResponseDto;
+import com.jeonjueats.image.ImageDerivativeGenerator;
+import com.jeonjueats.image.ImageStorage;
+import com.jeonjueats.image.ImageUploadStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * 이미지 업로드 관련 비즈니스 로직 처리 서비스
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ImageService {
 
     // 허용 가능한 이미지 MIME 타입들 (JPEG, PNG만)
@@ -37,8 +36,8 @@ public class ImageService {
     // 최대 파일 크기: 5MB
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
 
-    @Value("${app.upload.directory:uploads}")
-    private String uploadDirectory;
+    private final ImageStorage imageStorage;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
 
     @Value("${app.upload.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -60,25 +59,74 @@ public class ImageService {
         validateFile(file);
         validateDomain(domain);
 
-        // 2. 업로드 디렉토리 생성
-        Path uploadPath = createUploadDirectory(domain);
+        // 2. 파일 저장 (매직 바이트 검증, SHA-256 다이제스트 파일명, 같은 내용이면 기존 파일 사용)
+        try (InputStream content = file.getInputStream()) {
+            return store(content, domain, file.getOriginalFilename());
+        }
+    }
 
-        // 3. 고유한 파일명 생성
-        String uniqueFilename = generateUniqueFilename(file.getOriginalFilename());
+    /**
+     * 요청 본문을 그대로 저장소에 스트리밍하여 업로드 (multipart 임시 파일 없이 한 번만 기록)
+     * 형식은 매직 바이트로, 크기는 읽는 도중 누적 바이트로 검증
+     *
+     * @param body 요청 본문 (이미지 바이트)
+     * @param contentLength Content-Length (모르면 -1)
+     * @param contentType 요청 Content-Type
+     * @param originalFilename 원본 파일명 (선택)
+     * @param domain 이미지가 사용될 도메인 (stores, menus 등)
+     * @return 업로드된 이미지 정보
+     * @throws IOException 파일 저장 중 오류 발생 시
+     * @throws IllegalArgumentException 파일 유효성 검사 실패 시
+     */
+    public ImageUploadResponseDto uploadImageStream(InputStream body, long contentLength, String contentType,
+                                                    String originalFilename, String domain) throws IOException {
+        log.info("이미지 스트리밍 업로드 시작: originalFilename={}, size={}, contentType={}, domain={}",
+                originalFilename, contentLength, contentType, domain);
 
-        // 4. 파일 저장
-        Path targetLocation = uploadPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        // 1. 본문을 읽기 전에 확인 가능한 항목 검사
+        validateDomain(domain);
+        if (contentLength == 0) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (contentLength > MAX_FILE_SIZE) {
+            RuntimeException exception = new RuntimeException("FILE_SIZE_EXCEEDED");
+            exception.addSuppressed(new IllegalArgumentException("파일 크기가 5MB를 초과합니다."));
+            throw exception;
+        }
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            RuntimeException exception = new RuntimeException("INVALID_FILE_FORMAT");
+            exception.addSuppressed(new IllegalArgumentException("지원하지 않는 파일 형식입니다. JPEG 또는 PNG 파일만 업로드 가능합니다."));
+            throw exception;
+        }
 
-        log.info("이미지 업로드 완료: filename={}, path={}", uniqueFilename, targetLocation);
+        // 2. 본문을 읽으면서 검증하고 바로 저장
+        return store(body, domain, originalFilename);
+    }
+
+    /**
+     * 검증 스트림을 거쳐 저장소에 기록하고 응답 DTO 생성
+     * 매직 바이트 확인, 크기 제한, 다이제스트 계산이 한 번의 복사 안에서 이루어짐
+     */
+    private ImageUploadResponseDto store(InputStream body, String domain, String originalFilename) throws IOException {
+        ImageUploadStream content = ImageUploadStream.open(body, MAX_FILE_SIZE);
+        ImageStorage.StoredImage storedImage = imageStorage.store(content, content.format().extension());
+
+        log.info("이미지 업로드 완료: filename={}, path={}, 중복={}",
+                storedImage.filename(), storedImage.relativePath(), !storedImage.created());
 
-        // 5. 응답 DTO 생성
+        // 축소본 생성 예약 (새로 저장된 경우만, 응답을 기다리게 하지 않음)
+        if (storedImage.created()) {
+            imageDerivativeGenerator.submit(storedImage.path());
+        }
+
+        String imageUrl = generateImageUrl(domain, storedImage.relativePath());
         return ImageUploadResponseDto.builder()
-                .filename(uniqueFilename)
-                .imageUrl(generateImageUrl(domain, uniqueFilename))
-                .originalFilename(file.getOriginalFilename())
-                .fileSize(file.getSize())
-                .contentType(file.getContentType())
+                .filename(storedImage.filename())
+                .imageUrl(imageUrl)
+                .variantUrls(imageDerivativeGenerator.variantUrls(imageUrl))
+                .originalFilename(originalFilename)
+                .fileSize(storedImage.size())
+                .contentType(content.format().contentType())
                 .build();
     }
 
@@ -135,44 +183,11 @@ public class ImageService {
         }
     }
 
-    /**
-     * 업로드 디렉토리 생성 (기존 images 폴더에 저장)
-     */
-    private Path createUploadDirectory(String domain) throws IOException {
-        // 기존 images 폴더 구조에 맞춤: uploads/images/
-        Path uploadPath = Paths.get(uploadDirectory, "images");
-
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            log.info("업로드 디렉토리 생성: {}", uploadPath);
-        }
-
-        return uploadPath;
-    }
-
-    /**
-     * 중복 방지를 위한 고유한 파일명 생성
-     */
-    private String generateUniqueFilename(String originalFilename) {
-        // 파일 확장자 추출
-        String extension = "";
-        int lastDotIndex = originalFilename.lastIndexOf(".");
-        if (lastDotIndex > 0) {
-            extension = originalFilename.substring(lastDotIndex);
-        }
-
-        // UUID + 타임스탬프 + 확장자로 고유한 파일명 생성
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        
-        return String.format("%s_%s%s", timestamp, uuid, extension);
-    }
-
     /**
      * 웹에서 접근 가능한 이미지 URL 생성
      */
-    private String generateImageUrl(String domain, String filename) {
+    private String generateImageUrl(String domain, String relativePath) {
         // 상대 URL로 반환하여 배포 환경에서도 동작하도록 함
-        return String.format("/api/images/%s", filename);
+        return String.format("/api/images/%s", relativePath);
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.jeonjueats.service;
 
+import com.jeonjueats.dto.CursorPageResponseDto;
+import com.jeonjueats.dto.KeysetCursor;
 import com.jeonjueats.dto.OrderCreateRequestDto;
 import com.jeonjueats.dto.OrderListResponseDto;
 import com.jeonjueats.dto.OrderResponseDto;
@@ -10,8 +12,10 @@ import com.jeonjueats.exception.MenuNotFoundException;
 import com.jeonjueats.exception.OrderNotFoundException;
 import com.jeonjueats.exception.StoreNotFoundException;
 import com.jeonjueats.repository.*;
+import com.jeonjueats.search.SearchSuggestionIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +44,9 @@ public class OrderService {
     private final CartItemRepository cartItemRepository;
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final SearchSuggestionIndex searchSuggestionIndex;
 
     // MVP 고정값: 배달비
     private static final BigDecimal DELIVERY_FEE = new BigDecimal("3000");
@@ -76,8 +86,11 @@ public class OrderService {
             throw new InvalidCartOperationException("현재 영업하지 않는 가게입니다.");
         }
 
+        // 메뉴 정보 일괄 조회 (IN 쿼리 1회, 주문 시점 가격 스냅샷으로 사용)
+        Map<Long, Menu> menuMap = loadMenuMap(cartItems);
+
         // 주문 금액 계산
-        OrderCalculation calculation = calculateOrderTotals(cartItems);
+        OrderCalculation calculation = calculateOrderTotals(cartItems, menuMap);
 
         log.info("주문 금액 계산 완료 - 상품 총액: {}, 배달비: {}, 총 금액: {}", 
                 calculation.subtotalAmount, DELIVERY_FEE, calculation.totalPrice);
@@ -102,16 +115,23 @@ public class OrderService {
         order = ordersRepository.save(order);
         log.info("주문 생성 완료 - 주문 ID: {}, 총 금액: {}", order.getId(), order.getTotalPrice());
 
-        // 6. 주문 아이템들 생성
-        List<OrderItem> orderItems = createOrderItems(order.getId(), cartItems);
+        // 6. 주문 아이템들 생성 (JDBC 배치 INSERT 1회)
+        List<OrderItem> orderItems = createOrderItems(order.getId(), cartItems, menuMap);
         log.info("주문 아이템 생성 완료 - 아이템 수: {}", orderItems.size());
 
+        // 주문 목록 조회용 요약 정보 기록 (읽기 모델)
+        orderSummaryService.recordOrder(order, store, orderItems, menuMap);
+
+        // 검색어 자동완성 인기도 반영 (커밋 후)
+        searchSuggestionIndex.recordOrder(store.getId(), cartItems.stream()
+                .collect(Collectors.toMap(CartItem::getMenuId, CartItem::getQuantity, Integer::sum)));
+
         // 7. 장바구니 비우기 (트랜잭션으로 보장)
         clearUserCart(userId, cart);
         log.info("장바구니 정리 완료 - 사용자 ID: {}", userId);
 
         // 8. 응답 DTO 생성
-        OrderResponseDto response = convertToOrderResponseDto(order, store, orderItems);
+        OrderResponseDto response = convertToOrderResponseDto(order, store, orderItems, menuMap);
         
         log.info("주문 생성 프로세스 완료 - 주문 ID: {}, 사용자 ID: {}, 가게: {}", 
                 order.getId(), userId, store.getName());
@@ -119,16 +139,36 @@ public class OrderService {
         return response;
     }
 
+    /**
+     * 장바구니 아이템들의 메뉴 정보를 한 번에 조회
+     * 삭제된 메뉴가 포함된 경우 주문 불가
+     */
+    private Map<Long, Menu> loadMenuMap(List<CartItem> cartItems) {
+        Set<Long> menuIds = cartItems.stream()
+                .map(CartItem::getMenuId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Menu> menuMap = menuRepository.findByIdInAndIsDeletedFalse(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
+        for (Long menuId : menuIds) {
+            if (!menuMap.containsKey(menuId)) {
+                throw new MenuNotFoundException("메뉴를 찾을 수 없습니다. ID: " + menuId);
+            }
+        }
+
+        return menuMap;
+    }
+
     /**
      * 장바구니 아이템들의 총 금액 계산
      */
-    private OrderCalculation calculateOrderTotals(List<CartItem> cartItems) {
+    private OrderCalculation calculateOrderTotals(List<CartItem> cartItems, Map<Long, Menu> menuMap) {
         BigDecimal subtotalAmount = BigDecimal.ZERO;
         int totalQuantity = 0;
 
         for (CartItem cartItem : cartItems) {
-            Menu menu = menuRepository.findByIdAndIsDeletedFalse(cartItem.getMenuId())
-                    .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다. ID: " + cartItem.getMenuId()));
+            Menu menu = menuMap.get(cartItem.getMenuId());
 
             BigDecimal itemTotal = menu.getPrice().multiply(BigDecimal.valueOf(cartItem.getQuantity()));
             subtotalAmount = subtotalAmount.add(itemTotal);
@@ -142,30 +182,30 @@ public class OrderService {
 
     /**
      * 주문 아이템들 생성
+     * ID를 미리 할당하므로(SnowflakeId) Hibernate가 아이템 수와 무관하게 한 번의 배치 INSERT로 저장
      */
-    private List<OrderItem> createOrderItems(Long orderId, List<CartItem> cartItems) {
-        return cartItems.stream()
+    private List<OrderItem> createOrderItems(Long orderId, List<CartItem> cartItems, Map<Long, Menu> menuMap) {
+        List<OrderItem> orderItems = cartItems.stream()
                 .map(cartItem -> {
-                    Menu menu = menuRepository.findByIdAndIsDeletedFalse(cartItem.getMenuId())
-                            .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다. ID: " + cartItem.getMenuId()));
+                    Menu menu = menuMap.get(cartItem.getMenuId());
 
-                    OrderItem orderItem = new OrderItem(
+                    return new OrderItem(
                             orderId,
                             menu.getId(),
                             cartItem.getQuantity(),
                             menu.getPrice() // 주문 당시 가격으로 기록
                     );
-
-                    return orderItemRepository.save(orderItem);
                 })
                 .collect(Collectors.toList());
+
+        return orderItemRepository.saveAll(orderItems);
     }
 
     /**
      * 사용자 장바구니 완전 정리
      */
     private void clearUserCart(Long userId, Cart cart) {
-        // 1. 장바구니 아이템들 삭제
+        // 1. 장바구니 아이템들 삭제 (단일 DELETE 문)
         cartItemRepository.deleteByCartId(cart.getId());
         
         // 2. 장바구니 storeId 초기화
@@ -178,9 +218,10 @@ public class OrderService {
     /**
      * 주문 정보를 응답 DTO로 변환
      */
-    private OrderResponseDto convertToOrderResponseDto(Orders order, Store store, List<OrderItem> orderItems) {
+    private OrderResponseDto convertToOrderResponseDto(Orders order, Store store, List<OrderItem> orderItems,
+                                                       Map<Long, Menu> menuMap) {
         List<OrderResponseDto.OrderItemResponseDto> orderItemDtos = orderItems.stream()
-                .map(this::convertToOrderItemDto)
+                .map(orderItem -> convertToOrderItemDto(orderItem, menuMap.get(orderItem.getMenuId())))
                 .collect(Collectors.toList());
 
         int totalQuantity = orderItems.stream()
@@ -217,12 +258,9 @@ public class OrderService {
     }
 
     /**
-     * 주문 아이템을 DTO로 변환
+     * 주문 아이템을 DTO로 변환 (이미 조회된 메뉴 정보 사용)
      */
-    private OrderResponseDto.OrderItemResponseDto convertToOrderItemDto(OrderItem orderItem) {
-        Menu menu = menuRepository.findByIdAndIsDeletedFalse(orderItem.getMenuId())
-                .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다. ID: " + orderItem.getMenuId()));
-
+    private OrderResponseDto.OrderItemResponseDto convertToOrderItemDto(OrderItem orderItem, Menu menu) {
         return OrderResponseDto.OrderItemResponseDto.builder()
                 .orderItemId(orderItem.getId())
                 .menuId(menu.getId())
@@ -237,15 +275,32 @@ public class OrderService {
 
     /**
      * 사용자의 주문 목록 조회 (페이징)
+     * 주문 요약 읽기 모델에서 조회하여 주문별 추가 쿼리 없이 처리
      */
     public Page<OrderListResponseDto> getMyOrders(Long userId, Pageable pageable) {
         log.info("사용자 주문 목록 조회 - 사용자 ID: {}, 페이지: {}", userId, pageable.getPageNumber());
         
-        Page<Orders> ordersPage = ordersRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Page<OrderSummary> summaryPage = orderSummaryRepository.findByUserIdOrderByOrderedAtDesc(userId, pageable);
         
-        return ordersPage.map(this::convertToListResponseDto);
+        return summaryPage.map(this::convertToListResponseDto);
     }
     
+    /**
+     * 사용자 주문 목록 커서 기반 조회
+     * (ordered_at, order_id) 키셋으로 커서 이후 size건만 조회하며 전체 개수는 계산하지 않음
+     */
+    public CursorPageResponseDto<OrderListResponseDto> getMyOrdersByCursor(Long userId, String cursor, int size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = CursorPageResponseDto.normalizeSize(size);
+
+        List<OrderSummary> summaries = orderSummaryRepository.findKeysetPageByUserId(
+                userId, keyset.createdAt(), keyset.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponseDto.of(summaries, pageSize,
+                summary -> new KeysetCursor(summary.getOrderedAt(), summary.getOrderId()),
+                this::convertToListResponseDto);
+    }
+
     /**
      * 주문 상세 조회
      * 사용자의 소유권을 검증하여 자신의 주문만 조회 가능
@@ -260,50 +315,21 @@ public class OrderService {
     }
     
     /**
-     * Orders 엔티티를 OrderListResponseDto로 변환
+     * OrderSummary 읽기 모델을 OrderListResponseDto로 변환
      */
-    private OrderListResponseDto convertToListResponseDto(Orders order) {
-        // 주문 아이템 조회
-        List<OrderItem> orderItems = orderItemRepository.findByOrderIdOrderByCreatedAtDesc(order.getId());
-        
-        // 가게 정보 조회
-        Store store = storeRepository.findById(order.getStoreId())
-                .orElseThrow(() -> new StoreNotFoundException("가게를 찾을 수 없습니다."));
-        
-        // 대표 메뉴 이름 구성 (첫 번째 메뉴 + 외 X건)
-        String representativeMenuName = "";
-        int totalMenuCount = orderItems.size();
-        
-        if (!orderItems.isEmpty()) {
-            // 첫 번째 메뉴 정보 조회
-            Menu firstMenu = menuRepository.findById(orderItems.get(0).getMenuId())
-                    .orElse(null);
-            String firstMenuName = (firstMenu != null) ? firstMenu.getName() : "메뉴";
-            
-            if (totalMenuCount == 1) {
-                representativeMenuName = firstMenuName;
-            } else {
-                representativeMenuName = firstMenuName + " 외 " + (totalMenuCount - 1) + "건";
-            }
-        }
-        
-        // 총 수량 계산
-        int totalQuantity = orderItems.stream()
-                .mapToInt(OrderItem::getQuantity)
-                .sum();
-        
+    private OrderListResponseDto convertToListResponseDto(OrderSummary summary) {
         return OrderListResponseDto.builder()
-                .orderId(order.getId())
-                .storeId(order.getStoreId())
-                .storeName(store.getName())
-                .storeImageUrl(store.getStoreImageUrl())
-                .status(order.getStatus())
-                .statusDisplayName(getStatusDisplayName(order.getStatus()))
-                .totalPrice(order.getTotalPrice())
-                .representativeMenuName(representativeMenuName)
-                .totalMenuCount(totalMenuCount)
-                .orderedAt(order.getCreatedAt())
-                .totalQuantity(totalQuantity)
+                .orderId(summary.getOrderId())
+                .storeId(summary.getStoreId())
+                .storeName(summary.getStoreName())
+                .storeImageUrl(summary.getStoreImageUrl())
+                .status(summary.getStatus())
+                .statusDisplayName(getStatusDisplayName(summary.getStatus()))
+                .totalPrice(summary.getTotalPrice())
+                .representativeMenuName(summary.getRepresentativeMenuDisplayName())
+                .totalMenuCount(summary.getTotalMenuCount())
+                .orderedAt(summary.getOrderedAt())
+                .totalQuantity(summary.getTotalQuantity())
                 .build();
     }
     
@@ -0,0 +1,210 @@
+package com.jeonjueats.service;
+
+import com.jeonjueats.entity.*;
+import com.jeonjueats.repository.MenuRepository;
+import com.jeonjueats.repository.OrderItemRepository;
+import com.jeonjueats.repository.OrderSummaryRepository;
+import com.jeonjueats.repository.OrdersRepository;
+import com.jeonjueats.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 요약 읽기 모델 관리 서비스
+ * 주문 생성/상태 변경 시 order_summary 테이블을 함께 갱신하여
+ * 주문 목록 조회가 주문 아이템/가게/메뉴 추가 조회 없이 처리되도록 함
+ * 가게명/대표 메뉴명은 주문 시점 값을 보관하므로 이후 가게명이 바뀌어도 주문 목록에는 주문 당시 이름이 표시됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    // 읽기 모델 보정 시 한 번에 처리할 주문 수
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    // 여러 노드가 동시에 기동해도 보정은 한 노드만 실행하도록 잡는 MySQL 명명 잠금
+    private static final String BACKFILL_LOCK_NAME = "jeonjueats.order_summary_backfill";
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrdersRepository ordersRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final MenuRepository menuRepository;
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 생성 시 요약 정보 기록
+     * 주문 생성 트랜잭션 안에서 호출되어 주문과 함께 커밋됨
+     *
+     * @param order 저장된 주문
+     * @param store 주문 가게
+     * @param orderItems 저장된 주문 아이템 목록
+     * @param menuMap 주문 아이템의 메뉴 정보 (메뉴 ID 기준)
+     */
+    @Transactional
+    public void recordOrder(Orders order, Store store, List<OrderItem> orderItems, Map<Long, Menu> menuMap) {
+        orderSummaryRepository.save(buildSummary(order, store, orderItems, menuMap));
+        log.debug("주문 요약 기록 완료 - 주문 ID: {}", order.getId());
+    }
+
+    /**
+     * 주문 상태 변경 반영
+     */
+    @Transactional
+    public void updateStatus(Long orderId, OrderStatus status) {
+        int updated = orderSummaryRepository.updateStatus(orderId, status, LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("주문 요약 정보가 없어 상태를 갱신하지 못했습니다 - 주문 ID: {}", orderId);
+        }
+    }
+
+    /**
+     * 읽기 모델 도입 이전 주문들의 요약 정보 보정
+     * 애플리케이션 시작 시 요약 정보가 없는 주문을 배치 단위로 생성
+     * - MySQL 명명 잠금(GET_LOCK)을 얻은 한 노드만 실행하고, 잠금을 얻지 못한 노드는 건너뜀
+     * - 잠금은 세션 단위이므로 잠금을 잡은 커넥션 하나를 보정이 끝날 때까지 유지한 뒤 같은 커넥션에서 해제
+     * - 보정할 주문이 없으면 조회 1회로 끝나므로 이후 기동에서는 사실상 비용이 없음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingSummaries() {
+        try {
+            Boolean acquired = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                if (!tryBackfillLock(connection)) {
+                    return false;
+                }
+                try {
+                    runBackfill();
+                } finally {
+                    releaseBackfillLock(connection);
+                }
+                return true;
+            });
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("다른 노드에서 주문 요약 정보 보정 중 - 이 노드는 생략");
+            }
+        } catch (Exception e) {
+            // 잠금 조회 실패가 애플리케이션 기동을 막지 않도록 로그만 남김 (다음 기동 시 재시도)
+            log.error("주문 요약 정보 보정 잠금 처리 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void runBackfill() {
+        int total = 0;
+        try {
+            while (true) {
+                Integer processed = transactionTemplate.execute(status -> backfillBatch());
+                if (processed == null || processed == 0) {
+                    break;
+                }
+                total += processed;
+            }
+        } catch (Exception e) {
+            // 보정 실패가 애플리케이션 기동을 막지 않도록 로그만 남김 (다음 기동 시 재시도)
+            log.error("주문 요약 정보 보정 중 오류 발생 - 처리된 건수: {}, 오류: {}", total, e.getMessage());
+            return;
+        }
+
+        if (total > 0) {
+            log.info("주문 요약 정보 보정 완료 - {}건", total);
+        }
+    }
+
+    /**
+     * 보정 잠금 획득 시도 (대기 없음)
+     */
+    private static boolean tryBackfillLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, BACKFILL_LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseBackfillLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, BACKFILL_LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+
+    /**
+     * 요약 정보가 없는 주문 한 배치 처리
+     * 주문/아이템/메뉴/가게를 각각 IN 쿼리 1회로 조회
+     */
+    private int backfillBatch() {
+        List<Long> orderIds = orderSummaryRepository.findOrderIdsWithoutSummary(PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Orders> orders = ordersRepository.findAllById(orderIds);
+
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIdInOrderByIdAsc(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+
+        List<Long> menuIds = itemsByOrderId.values().stream()
+                .flatMap(List::stream)
+                .map(OrderItem::getMenuId)
+                .distinct()
+                .toList();
+        // 삭제된 메뉴도 이름이 필요하지만 @SQLRestriction으로 제외되므로 기본 표시명 사용
+        Map<Long, Menu> menuMap = menuRepository.findAllById(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
+        List<Long> storeIds = orders.stream()
+                .map(Orders::getStoreId)
+                .distinct()
+                .toList();
+        Map<Long, Store> storeMap = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        List<OrderSummary> summaries = orders.stream()
+                .map(order -> buildSummary(
+                        order,
+                        storeMap.get(order.getStoreId()),
+                        itemsByOrderId.getOrDefault(order.getId(), List.of()),
+                        menuMap))
+                .toList();
+
+        orderSummaryRepository.saveAll(summaries);
+        return summaries.size();
+    }
+
+    /**
+     * 주문 요약 엔티티 생성
+     */
+    private OrderSummary buildSummary(Orders order, Store store, List<OrderItem> orderItems, Map<Long, Menu> menuMap) {
+        String representativeMenuName = null;
+        if (!orderItems.isEmpty()) {
+            Menu firstMenu = menuMap.get(orderItems.get(0).getMenuId());
+            representativeMenuName = (firstMenu != null) ? firstMenu.getName() : "메뉴";
+        }
+
+        int totalQuantity = orderItems.stream()
+                .mapToInt(OrderItem::getQuantity)
+                .sum();
+
+        return new OrderSummary(order, store, representativeMenuName, orderItems.size(), totalQuantity);
+    }
+}
@@ -1,5 +1,7 @@
 package com.jeonjueats.service;
 
+import com.jeonjueats.cache.CatalogVersion;
+import com.jeonjueats.cache.StoreDetailResponseCache;
 import com.jeonjueats.dto.MenuCreateRequestDto;
 import com.jeonjueats.dto.MenuUpdateRequestDto;
 import com.jeonjueats.entity.Menu;
@@ -10,6 +12,8 @@ import com.jeonjueats.exception.UnauthorizedAccessException;
 import com.jeonjueats.exception.MenuNotFoundException;
 import com.jeonjueats.repository.MenuRepository;
 import com.jeonjueats.repository.StoreRepository;
+import com.jeonjueats.search.SearchSuggestionIndex;
+import com.jeonjueats.search.StoreSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +33,9 @@ public class OwnerMenuService {
 
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final StoreDetailResponseCache storeDetailResponseCache;
 
     /**
      * 새로운 메뉴 등록
@@ -44,11 +51,8 @@ public class OwnerMenuService {
         log.info("메뉴 등록 시작 - 사장님 ID: {}, 가게 ID: {}, 메뉴명: {}", 
                 ownerId, storeId, requestDto.getMenuName());
 
-        // 1. 가게 조회 및 소유권 검증
-        Store store = storeRepository.findByIdAndIsDeletedFalse(storeId)
-                .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
-        
-        validateStoreOwnership(store, ownerId);
+        // 1. 가게 소유권 검증
+        validateStoreOwnership(storeId, ownerId);
 
         // 2. Menu 엔티티 생성 (초기 상태: AVAILABLE)
         Menu menu = new Menu(
@@ -65,6 +69,9 @@ public class OwnerMenuService {
 
         // 4. 메뉴 저장
         Menu savedMenu = menuRepository.save(menu);
+        storeSearchIndex.indexMenu(savedMenu);
+        searchSuggestionIndex.indexMenu(savedMenu);
+        storeDetailResponseCache.invalidate(storeId);
 
         log.info("메뉴 등록 완료 - 메뉴 ID: {}, 메뉴명: {}", savedMenu.getId(), savedMenu.getName());
 
@@ -74,12 +81,17 @@ public class OwnerMenuService {
     /**
      * 가게 소유권 검증
      * 현재 인증된 사장님이 해당 가게의 소유자인지 확인
+     * 가게는 2차 캐시(store 영역)를 거쳐 조회하므로 캐시 적중 시 DB 조회 없음
      * 
-     * @param store 가게 엔티티
+     * @param storeId 가게 ID
      * @param ownerId 사장님 ID
+     * @throws StoreNotFoundException 가게가 없을 경우
      * @throws UnauthorizedAccessException 소유권이 없을 경우
      */
-    private void validateStoreOwnership(Store store, Long ownerId) {
+    private void validateStoreOwnership(Long storeId, Long ownerId) {
+        Store store = storeRepository.findByIdAndIsDeletedFalse(storeId)
+                .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
+
         if (!store.getOwnerId().equals(ownerId)) {
             log.warn("가게 소유권 검증 실패 - 가게 ID: {}, 사장님 ID: {}", store.getId(), ownerId);
             throw new UnauthorizedAccessException("해당 가게에 대한 권한이 없습니다.");
@@ -101,11 +113,8 @@ public class OwnerMenuService {
     public Page<Menu> getMenus(Long ownerId, Long storeId, Pageable pageable) {
         log.info("메뉴 목록 조회 시작 - 사장님 ID: {}, 가게 ID: {}", ownerId, storeId);
 
-        // 1. 가게 조회 및 소유권 검증
-        Store store = storeRepository.findByIdAndIsDeletedFalse(storeId)
-                .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
-        
-        validateStoreOwnership(store, ownerId);
+        // 1. 가게 소유권 검증
+        validateStoreOwnership(storeId, ownerId);
 
         // 2. 메뉴 목록 조회 (논리적 삭제 제외)
         Page<Menu> menus = menuRepository.findByStoreIdAndIsDeletedFalseOrderByCreatedAtDesc(storeId, pageable);
@@ -116,6 +125,19 @@ public class OwnerMenuService {
         return menus;
     }
 
+    /**
+     * 가게 메뉴 목록 버전 조회 (조건부 GET용)
+     * 소유권 검증 후, 메뉴 목록을 조회하지 않고 집계 쿼리 1회로 버전만 계산
+     *
+     * @param ownerId 가게 소유자 ID (현재 인증된 사장님)
+     * @param storeId 조회할 가게 ID
+     * @return 메뉴 목록 버전
+     */
+    public CatalogVersion getMenuListVersion(Long ownerId, Long storeId) {
+        validateStoreOwnership(storeId, ownerId);
+        return CatalogVersion.of(menuRepository.findCatalogVersionByStoreId(storeId));
+    }
+
     /**
      * 메뉴 정보 수정
      * 소유권 검증 후, 제공된 필드만 업데이트 (Dirty Checking 활용)
@@ -131,11 +153,8 @@ public class OwnerMenuService {
         log.info("메뉴 수정 시작 - 사장님 ID: {}, 가게 ID: {}, 메뉴 ID: {}", 
                 ownerId, storeId, menuId);
 
-        // 1. 가게 조회 및 소유권 검증
-        Store store = storeRepository.findByIdAndIsDeletedFalse(storeId)
-                .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
-        
-        validateStoreOwnership(store, ownerId);
+        // 1. 가게 소유권 검증
+        validateStoreOwnership(storeId, ownerId);
 
         // 2. 메뉴 조회 (해당 가게의 메뉴인지도 함께 검증)
         Menu menu = menuRepository.findByIdAndStoreIdAndIsDeletedFalse(menuId, storeId)
@@ -156,6 +175,9 @@ public class OwnerMenuService {
         }
 
         // @Transactional에 의해 자동으로 DB에 반영됨
+        storeSearchIndex.indexMenu(menu);
+        searchSuggestionIndex.indexMenu(menu);
+        storeDetailResponseCache.invalidate(storeId);
 
         log.info("메뉴 수정 완료 - 메뉴 ID: {}, 메뉴명: {}", menu.getId(), menu.getName());
 
@@ -176,18 +198,18 @@ public class OwnerMenuService {
         log.info("메뉴 삭제 시작 - 사장님 ID: {}, 가게 ID: {}, 메뉴 ID: {}", 
                 ownerId, storeId, menuId);
 
-        // 1. 가게 조회 및 소유권 검증
-        Store store = storeRepository.findByIdAndIsDeletedFalse(storeId)
-                .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
-        
-        validateStoreOwnership(store, ownerId);
+        // 1. 가게 소유권 검증
+        validateStoreOwnership(storeId, ownerId);
 
         // 2. 메뉴 조회 (해당 가게의 메뉴인지도 함께 검증)
         Menu menu = menuRepository.findByIdAndStoreIdAndIsDeletedFalse(menuId, storeId)
                 .orElseThrow(() -> new MenuNotFoundException("존재하지 않는 메뉴입니다."));
 
-        // 3. 메뉴 논리적 삭제 (@SQLDelete 애노테이션에 의해 UPDATE 쿼리 실행)
-        menuRepository.delete(menu);
+        // 3. 메뉴 논리적 삭제 (변경 감지로 is_deleted, deleted_at, updated_at UPDATE)
+        menu.delete();
+        storeSearchIndex.removeMenu(menuId);
+        searchSuggestionIndex.removeMenu(menuId);
+        storeDetailResponseCache.invalidate(storeId);
 
         log.info("메뉴 논리적 삭제 완료 - 메뉴 ID: {}, 메뉴명: {}", menu.getId(), menu.getName());
     }
@@ -206,11 +228,8 @@ public class OwnerMenuService {
         log.info("메뉴 판매 상태 토글 시작 - 사장님 ID: {}, 가게 ID: {}, 메뉴 ID: {}", 
                 ownerId, storeId, menuId);
 
-        // 1. 가게 조회 및 소유권 검증
-        Store store = storeRepository.findByIdAndIsDeletedFalse(storeId)
-                .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
-        
-        validateStoreOwnership(store, ownerId);
+        // 1. 가게 소유권 검증
+        validateStoreOwnership(storeId, ownerId);
 
         // 2. 메뉴 조회
         Menu menu = menuRepository.findByIdAndStoreIdAndIsDeletedFalse(menuId, storeId)
@@ -226,6 +245,7 @@ public class OwnerMenuService {
         }
 
         // 4. JPA Dirty Checking으로 자동 저장
+        storeDetailResponseCache.invalidate(storeId);
         log.info("메뉴 판매 상태 토글 완료 - 메뉴 ID: {}, 최종 상태: {}", 
                 menu.getId(), menu.getStatus());
 
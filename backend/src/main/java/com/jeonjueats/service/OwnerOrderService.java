@@ -1,5 +1,7 @@
 package com.jeonjueats.service;
 
+import com.jeonjueats.dto.CursorPageResponseDto;
+import com.jeonjueats.dto.KeysetCursor;
 import com.jeonjueats.dto.OwnerOrderListResponseDto;
 import com.jeonjueats.dto.OrderResponseDto;
 import com.jeonjueats.dto.OrderStatusUpdateRequestDto;
@@ -10,7 +12,9 @@ import com.jeonjueats.exception.UnauthorizedAccessException;
 import com.jeonjueats.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +38,8 @@ public class OwnerOrderService {
     private final UserRepository userRepository;
     private final OrderItemRepository orderItemRepository;
     private final MenuRepository menuRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryService orderSummaryService;
 
     /**
      * 가게별 주문 목록 조회 (상태별 필터링 지원)
@@ -42,27 +48,60 @@ public class OwnerOrderService {
         // 가게 소유권 검증
         validateStoreOwnership(storeId, ownerId);
 
-        // 상태별 필터링하여 주문 조회
-        Page<Orders> orders;
+        // 정렬은 주문 일시 역순으로 고정 (요청의 createdAt 정렬은 읽기 모델에 없는 속성이므로 제외)
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        // 상태별 필터링하여 주문 요약 조회 (읽기 모델, 주문별 추가 쿼리 없음)
+        Page<OrderSummary> orders;
         if (status != null) {
-            orders = ordersRepository.findByStoreIdAndStatusOrderByCreatedAtDesc(storeId, status, pageable);
+            orders = orderSummaryRepository.findByStoreIdAndStatusOrderByOrderedAtDesc(storeId, status, pageRequest);
         } else {
-            orders = ordersRepository.findByStoreIdOrderByCreatedAtDesc(storeId, pageable);
+            orders = orderSummaryRepository.findByStoreIdOrderByOrderedAtDesc(storeId, pageRequest);
         }
 
         // 사용자 정보 배치 조회
         List<Long> userIds = orders.getContent().stream()
-                .map(Orders::getUserId)
+                .map(OrderSummary::getUserId)
                 .distinct()
                 .toList();
 
         Map<Long, User> userMap = userRepository.findAllById(userIds).stream()
                 .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        // 각 주문별 주문 아이템 및 메뉴 정보 조회 (간단한 요약 정보만)
         return orders.map(order -> buildOwnerOrderListResponseDto(order, userMap.get(order.getUserId())));
     }
 
+    /**
+     * 가게별 주문 목록 커서 기반 조회
+     * (ordered_at, order_id) 키셋으로 커서 이후 size건만 조회하며 전체 개수는 계산하지 않음
+     */
+    public CursorPageResponseDto<OwnerOrderListResponseDto> getStoreOrdersByCursor(
+            Long storeId, OrderStatus status, Long ownerId, String cursor, int size) {
+        // 가게 소유권 검증
+        validateStoreOwnership(storeId, ownerId);
+
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = CursorPageResponseDto.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<OrderSummary> orders = (status != null)
+                ? orderSummaryRepository.findKeysetPageByStoreIdAndStatus(storeId, status, keyset.createdAt(), keyset.id(), limit)
+                : orderSummaryRepository.findKeysetPageByStoreId(storeId, keyset.createdAt(), keyset.id(), limit);
+
+        // 사용자 정보 배치 조회
+        List<Long> userIds = orders.stream()
+                .map(OrderSummary::getUserId)
+                .distinct()
+                .toList();
+
+        Map<Long, User> userMap = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return CursorPageResponseDto.of(orders, pageSize,
+                order -> new KeysetCursor(order.getOrderedAt(), order.getOrderId()),
+                order -> buildOwnerOrderListResponseDto(order, userMap.get(order.getUserId())));
+    }
+
     /**
      * 가게별 특정 주문 상세 조회
      */
@@ -80,6 +119,7 @@ public class OwnerOrderService {
 
     /**
      * 가게 소유권 검증
+     * 가게는 2차 캐시(store 영역)를 거쳐 조회하므로 캐시 적중 시 DB 조회 없음
      */
     private void validateStoreOwnership(Long storeId, Long ownerId) {
         Store store = storeRepository.findById(storeId)
@@ -93,45 +133,23 @@ public class OwnerOrderService {
     /**
      * 사장님용 주문 목록 응답 DTO 빌드
      */
-    private OwnerOrderListResponseDto buildOwnerOrderListResponseDto(Orders order, User user) {
-        // 주문 아이템들 조회하여 대표 메뉴명과 총 개수 계산
-        List<OrderItem> orderItems = orderItemRepository.findByOrderIdOrderByCreatedAtDesc(order.getId());
-        
-        // 대표 메뉴명 생성 (첫 번째 메뉴명 + "외 N건" 형태)
-        String representativeMenuName = "";
-        int totalMenuCount = orderItems.size();
-        int totalQuantity = orderItems.stream().mapToInt(OrderItem::getQuantity).sum();
-
-        if (!orderItems.isEmpty()) {
-            OrderItem firstItem = orderItems.get(0);
-            Menu firstMenu = menuRepository.findById(firstItem.getMenuId())
-                    .orElse(null);
-            
-            if (firstMenu != null) {
-                if (totalMenuCount > 1) {
-                    representativeMenuName = firstMenu.getName() + " 외 " + (totalMenuCount - 1) + "건";
-                } else {
-                    representativeMenuName = firstMenu.getName();
-                }
-            }
-        }
-
+    private OwnerOrderListResponseDto buildOwnerOrderListResponseDto(OrderSummary summary, User user) {
         return OwnerOrderListResponseDto.builder()
-                .orderId(order.getId())
-                .userId(order.getUserId())
+                .orderId(summary.getOrderId())
+                .userId(summary.getUserId())
                 .userNickname(user != null ? user.getNickname() : "알 수 없음")
-                .status(order.getStatus())
-                .statusDisplayName(order.getStatus().getDescription())
-                .totalPrice(order.getTotalPrice())
-                .subtotalAmount(order.getSubtotalAmount())
-                .deliveryFeeAtOrder(order.getDeliveryFeeAtOrder())
-                .representativeMenuName(representativeMenuName)
-                .totalMenuCount(totalMenuCount)
-                .totalQuantity(totalQuantity)
-                .deliveryAddress1(order.getDeliveryAddress1())
-                .deliveryAddress2(order.getDeliveryAddress2())
-                .orderedAt(order.getCreatedAt())
-                .requests(order.getRequests())
+                .status(summary.getStatus())
+                .statusDisplayName(summary.getStatus().getDescription())
+                .totalPrice(summary.getTotalPrice())
+                .subtotalAmount(summary.getSubtotalAmount())
+                .deliveryFeeAtOrder(summary.getDeliveryFeeAtOrder())
+                .representativeMenuName(summary.getRepresentativeMenuDisplayName())
+                .totalMenuCount(summary.getTotalMenuCount())
+                .totalQuantity(summary.getTotalQuantity())
+                .deliveryAddress1(summary.getDeliveryAddress1())
+                .deliveryAddress2(summary.getDeliveryAddress2())
+                .orderedAt(summary.getOrderedAt())
+                .requests(summary.getRequests())
                 .build();
     }
 
@@ -230,6 +248,9 @@ public class OwnerOrderService {
         order.setStatus(request.getNewStatus());
         ordersRepository.save(order);
 
+        // 주문 요약 읽기 모델 상태 동기화
+        orderSummaryService.updateStatus(orderId, request.getNewStatus());
+
         log.info("주문 상태 변경 완료 - orderId: {}, oldStatus: {}, newStatus: {}", 
                 orderId, oldStatus, request.getNewStatus());
 
@@ -1,5 +1,6 @@
 package com.jeonjueats.service;
 
+import com.jeonjueats.cache.StoreDetailResponseCache;
 import com.jeonjueats.dto.StoreCreateRequestDto;
 import com.jeonjueats.dto.StoreResponseDto;
 import com.jeonjueats.dto.StoreUpdateRequestDto;
@@ -11,6 +12,8 @@ import com.jeonjueats.exception.StoreNotFoundException;
 import com.jeonjueats.exception.UnauthorizedAccessException;
 import com.jeonjueats.repository.CategoryRepository;
 import com.jeonjueats.repository.StoreRepository;
+import com.jeonjueats.search.SearchSuggestionIndex;
+import com.jeonjueats.search.StoreSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -30,6 +33,9 @@ public class OwnerStoreService {
 
     private final StoreRepository storeRepository;
     private final CategoryRepository categoryRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final StoreDetailResponseCache storeDetailResponseCache;
 
     /**
      * 새로운 가게 등록
@@ -66,6 +72,8 @@ public class OwnerStoreService {
 
         // 4. 가게 저장
         Store savedStore = storeRepository.save(store);
+        storeSearchIndex.indexStore(savedStore);
+        searchSuggestionIndex.indexStore(savedStore);
 
         log.info("가게 등록 완료 - 가게 ID: {}, 가게명: {}", savedStore.getId(), savedStore.getName());
 
@@ -129,7 +137,10 @@ public class OwnerStoreService {
      * @throws IllegalArgumentException 소유권이 없을 경우
      */
     public void validateStoreOwnership(Long storeId, Long ownerId) {
-        boolean isOwner = storeRepository.existsByIdAndOwnerIdAndIsDeletedFalse(storeId, ownerId);
+        // 2차 캐시(store 영역)를 거쳐 조회하므로 캐시 적중 시 DB 조회 없음
+        boolean isOwner = storeRepository.findByIdAndIsDeletedFalse(storeId)
+                .map(store -> store.getOwnerId().equals(ownerId))
+                .orElse(false);
         
         if (!isOwner) {
             log.warn("가게 소유권 검증 실패 - 가게 ID: {}, 사장님 ID: {}", storeId, ownerId);
@@ -201,6 +212,9 @@ public class OwnerStoreService {
         }
         
         // @Transactional에 의해 자동으로 변경사항이 DB에 반영됨 (Dirty Checking)
+        storeSearchIndex.indexStore(store);
+        searchSuggestionIndex.indexStore(store);
+        storeDetailResponseCache.invalidate(storeId);
         log.info("Store updated successfully: {}", storeId);
         
         return convertToResponseDto(store);
@@ -230,6 +244,9 @@ public class OwnerStoreService {
                 : StoreStatus.OPEN;
         
         store.setStatus(newStatus);
+        storeSearchIndex.indexStore(store);
+        searchSuggestionIndex.indexStore(store);
+        storeDetailResponseCache.invalidate(storeId);
         
         // @Transactional에 의해 자동으로 변경사항이 DB에 반영됨 (Dirty Checking)
         log.info("Store operation status changed from {} to {} for storeId: {}", 
@@ -273,7 +290,10 @@ public class OwnerStoreService {
                 .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
         
         validateStoreOwnership(store, ownerId);
-        storeRepository.delete(store);
+        store.delete();
+        storeSearchIndex.removeStore(storeId);
+        searchSuggestionIndex.removeStore(storeId);
+        storeDetailResponseCache.invalidate(storeId);
     }
 
     /**
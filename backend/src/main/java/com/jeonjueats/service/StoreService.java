@@ -1,22 +1,38 @@
 package com.jeonjueats.service;
 
+import com.jeonjueats.cache.CatalogVersion;
+import com.jeonjueats.dto.CursorPageResponseDto;
+import com.jeonjueats.dto.KeysetCursor;
 import com.jeonjueats.dto.MenuResponseDto;
+import com.jeonjueats.dto.SearchSuggestionDto;
 import com.jeonjueats.dto.StoreDetailResponseDto;
 import com.jeonjueats.dto.StoreResponseDto;
+import com.jeonjueats.dto.TrendingKeywordDto;
 import com.jeonjueats.entity.Menu;
 import com.jeonjueats.entity.Store;
 import com.jeonjueats.entity.StoreStatus;
 import com.jeonjueats.exception.StoreNotFoundException;
 import com.jeonjueats.repository.MenuRepository;
 import com.jeonjueats.repository.StoreRepository;
+import com.jeonjueats.search.SearchResultCache;
+import com.jeonjueats.search.SearchSuggestionIndex;
+import com.jeonjueats.search.StoreSearchIndex;
+import com.jeonjueats.search.TrendingKeywordTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +47,10 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final SearchResultCache searchResultCache;
+    private final TrendingKeywordTracker trendingKeywordTracker;
 
     /**
      * 모든 가게 목록 조회 (카테고리 필터링 지원)
@@ -62,9 +82,44 @@ public class StoreService {
         return storePage.map(this::convertToResponseDto);
     }
 
+    /**
+     * 가게 목록 버전 조회 (조건부 GET용)
+     * 목록을 조회하지 않고 집계 쿼리 1회로 최근 수정 시각과 가게 수만 확인
+     *
+     * @param categoryId 카테고리 ID (null이면 전체 카테고리)
+     * @return 가게 목록 버전
+     */
+    public CatalogVersion getStoreListVersion(Long categoryId) {
+        return CatalogVersion.of(storeRepository.findCatalogVersion(categoryId));
+    }
+
+    /**
+     * 가게 목록 커서 기반 조회 (카테고리 필터링 지원)
+     * (created_at, id) 키셋으로 커서 이후 size건만 조회하며 전체 개수는 계산하지 않음
+     *
+     * @param categoryId 카테고리 ID (null이면 전체 카테고리)
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 가게 목록 + 다음 페이지 커서
+     */
+    public CursorPageResponseDto<StoreResponseDto> getStoresByCursor(Long categoryId, String cursor, int size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        int pageSize = CursorPageResponseDto.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Store> stores = (categoryId != null)
+                ? storeRepository.findKeysetPageByCategoryId(categoryId, keyset.createdAt(), keyset.id(), limit)
+                : storeRepository.findKeysetPage(keyset.createdAt(), keyset.id(), limit);
+
+        return CursorPageResponseDto.of(stores, pageSize,
+                store -> new KeysetCursor(store.getCreatedAt(), store.getId()),
+                this::convertToResponseDto);
+    }
+
     /**
      * 가게명 또는 메뉴명으로 가게 검색
      * OPEN 상태인 가게만 검색 결과에 포함
+     * 가게명이 일치하는 가게가 메뉴명만 일치하는 가게보다 먼저 노출됨
      * 
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
@@ -74,13 +129,16 @@ public class StoreService {
         log.info("가게/메뉴 통합 검색 시작 - 키워드: '{}', 페이지: {}, 사이즈: {}", 
                  keyword, pageable.getPageNumber(), pageable.getPageSize());
 
-        // OPEN 상태인 가게만 검색하는 메서드 사용
-        // 가게명과 메뉴명을 모두 검색하여 영업 중인 가게들만 반환
-        Page<Store> searchResults = storeRepository.findByStoreOrMenuNameContainingAndStatus(
-                keyword, StoreStatus.OPEN, pageable);
-        
-        // StoreResponseDto로 변환 (OPEN 상태이고 삭제되지 않은 가게만 변환됨)
-        Page<StoreResponseDto> results = searchResults.map(this::convertToResponseDto);
+        Page<StoreResponseDto> results;
+        if (storeSearchIndex.isReady()) {
+            // 인메모리 역색인으로 검색 (가게명 일치 > 메뉴명 일치 순으로 정렬)
+            results = searchStoresByIndex(keyword, pageable);
+        } else {
+            // 색인 생성 전에는 DB에서 OPEN 상태인 가게만 검색
+            Page<Store> searchResults = storeRepository.findByStoreOrMenuNameContainingAndStatus(
+                    keyword, StoreStatus.OPEN, pageable);
+            results = searchResults.map(this::convertToResponseDto);
+        }
 
         log.info("가게/메뉴 통합 검색 완료 - 키워드: '{}', 총 {}개 결과 ({}페이지 중 {}페이지)", 
                  keyword, results.getTotalElements(), 
@@ -89,6 +147,94 @@ public class StoreService {
         return results;
     }
 
+    /**
+     * 검색어 자동완성
+     * 입력 중인 접두사로 시작하는 가게명/메뉴명/카테고리명을 인기도(주문 수, 찜 수)순으로 반환
+     * DB 조회 없이 메모리의 접두사 트라이에서 조회
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 개수
+     * @return 추천 검색어 목록
+     */
+    public List<SearchSuggestionDto> suggestKeywords(String prefix, int size) {
+        return searchSuggestionIndex.suggest(prefix, size).stream()
+                .map(suggestion -> SearchSuggestionDto.builder()
+                        .text(suggestion.text())
+                        .type(suggestion.type())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색어 기록 (실시간 인기 검색어 집계용, 잠금 없이 즉시 반환)
+     *
+     * @param keyword 검색 키워드
+     */
+    public void recordSearchKeyword(String keyword) {
+        trendingKeywordTracker.record(keyword);
+    }
+
+    /**
+     * 실시간 인기 검색어 조회
+     * 최근 1시간 동안 많이 검색된 검색어를 추정 검색 수 순으로 반환
+     *
+     * @param size 최대 개수
+     * @return 인기 검색어 목록
+     */
+    public List<TrendingKeywordDto> getTrendingKeywords(int size) {
+        List<TrendingKeywordTracker.TrendingKeyword> keywords = trendingKeywordTracker.trending(size);
+
+        List<TrendingKeywordDto> result = new ArrayList<>(keywords.size());
+        for (int i = 0; i < keywords.size(); i++) {
+            result.add(TrendingKeywordDto.builder()
+                    .rank(i + 1)
+                    .keyword(keywords.get(i).keyword())
+                    .searchCount(keywords.get(i).count())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 역색인 검색 결과 중 요청 페이지에 해당하는 가게만 IN 쿼리 1회로 조회
+     * 결과 페이지는 검색 결과 캐시에 보관하며, 가게/메뉴 변경 시 해당 키워드만 무효화됨
+     *
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보
+     * @return 검색된 가게 목록 (검색 점수순)
+     */
+    private Page<StoreResponseDto> searchStoresByIndex(String keyword, Pageable pageable) {
+        SearchResultCache.CachedPage cached = searchResultCache.get(
+                keyword, StoreStatus.OPEN, pageable.getPageNumber(), pageable.getPageSize());
+        if (cached == null) {
+            // 조회 도중 무효화가 일어나면 저장하지 않도록 조회 전 버전을 기록
+            long cacheVersion = searchResultCache.version();
+            cached = loadSearchPage(keyword, pageable);
+            searchResultCache.put(keyword, StoreStatus.OPEN, pageable.getPageNumber(), pageable.getPageSize(),
+                    cached, cacheVersion);
+        }
+        return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+    }
+
+    private SearchResultCache.CachedPage loadSearchPage(String keyword, Pageable pageable) {
+        List<Long> matchedStoreIds = storeSearchIndex.search(keyword, StoreStatus.OPEN);
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), matchedStoreIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedStoreIds.size());
+        List<Long> pageStoreIds = matchedStoreIds.subList(fromIndex, toIndex);
+
+        Map<Long, Store> storeMap = storeRepository.findAllById(pageStoreIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        List<StoreResponseDto> content = pageStoreIds.stream()
+                .map(storeMap::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+
+        return new SearchResultCache.CachedPage(content, matchedStoreIds.size());
+    }
+
     /**
      * 가게 상세 정보 및 메뉴 목록 조회
      * 영업 상태에 관계없이 가게 상세 정보와 해당 가게의 모든 메뉴를 함께 조회
@@ -113,6 +259,19 @@ public class StoreService {
         return convertToStoreDetailResponseDto(store, menus);
     }
 
+    /**
+     * 가게 상세 정보 버전 조회 (조건부 GET용)
+     * 메뉴 엔티티를 불러오지 않고 가게(2차 캐시) + 메뉴 집계 쿼리 1회로 버전만 계산
+     *
+     * @param storeId 가게 ID
+     * @return 가게 상세 정보 버전 (가게가 없으면 empty)
+     */
+    public Optional<CatalogVersion> getStoreDetailVersion(Long storeId) {
+        return storeRepository.findByIdAndIsDeletedFalse(storeId)
+                .map(store -> CatalogVersion.of(menuRepository.findCatalogVersionByStoreId(storeId))
+                        .withModified(store.getUpdatedAt()));
+    }
+
     /**
      * Store 엔티티를 StoreResponseDto로 변환
      * 
@@ -7,27 +7,50 @@ import com.jeonjueats.entity.Wishlist;
 import com.jeonjueats.exception.StoreNotFoundException;
 import com.jeonjueats.repository.StoreRepository;
 import com.jeonjueats.repository.WishlistRepository;
-import lombok.RequiredArgsConstructor;
+import com.jeonjueats.repository.WishlistStoreView;
+import com.jeonjueats.search.SearchSuggestionIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 찜하기 기능 Service
  * 가게 찜하기/해제, 찜 목록 조회 등의 비즈니스 로직 처리
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class WishlistService {
 
+    /**
+     * 전체 목록 스트리밍 시 한 트랜잭션에서 조회할 찜 항목 수
+     */
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final WishlistRepository wishlistRepository;
     private final StoreRepository storeRepository;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public WishlistService(WishlistRepository wishlistRepository,
+                           StoreRepository storeRepository,
+                           SearchSuggestionIndex searchSuggestionIndex,
+                           PlatformTransactionManager transactionManager) {
+        this.wishlistRepository = wishlistRepository;
+        this.storeRepository = storeRepository;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 가게 찜 상태 토글 (찜하기/해제)
@@ -55,6 +78,7 @@ public class WishlistService {
             // 이미 찜한 상태 -> 찜 해제
             wishlistRepository.deleteByUserIdAndStoreId(userId, storeId);
             isWished = false;
+            searchSuggestionIndex.recordWishlistChange(storeId, -1);
             message = "찜을 해제했습니다.";
             log.info("찜 해제 완료 - 사용자 ID: {}, 가게 ID: {}", userId, storeId);
         } else {
@@ -62,6 +86,7 @@ public class WishlistService {
             Wishlist newWishlist = new Wishlist(userId, storeId);
             wishlistRepository.save(newWishlist);
             isWished = true;
+            searchSuggestionIndex.recordWishlistChange(storeId, 1);
             message = "찜했습니다.";
             log.info("찜 추가 완료 - 사용자 ID: {}, 가게 ID: {}", userId, storeId);
         }
@@ -85,11 +110,52 @@ public class WishlistService {
         log.info("찜 목록 조회 요청 - 사용자 ID: {}, 페이지: {}, 크기: {}", 
                 userId, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Wishlist> wishlistPage = wishlistRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        // 찜 목록과 가게 정보를 단일 조인 쿼리로 조회 (페이지 크기와 무관하게 쿼리 수 고정)
+        Page<WishlistStoreView> wishlistPage = wishlistRepository.findWishlistStoreViewsByUserId(userId, pageable);
 
         return wishlistPage.map(this::convertToWishlistResponseDto);
     }
 
+    /**
+     * 내 찜 목록 전체 스트리밍 조회
+     * 찜한 가게가 많은 사용자를 위해 전체 목록을 메모리에 올리지 않고 키셋 배치 단위로 전달
+     * 배치마다 짧은 읽기 전용 트랜잭션으로 조회하고, 콜백(응답 쓰기)은 트랜잭션 밖에서 호출하므로
+     * 느린 클라이언트가 다운로드하는 동안 DB 커넥션을 붙잡지 않음
+     *
+     * @param userId 사용자 ID
+     * @param consumer 찜 항목을 받아 처리할 콜백 (예: 응답 스트림에 직렬화)
+     * @return 전달한 찜 항목 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long streamMyWishlists(Long userId, Consumer<WishlistResponseDto> consumer) {
+        log.info("찜 목록 스트리밍 조회 요청 - 사용자 ID: {}", userId);
+
+        long count = 0;
+        WishlistStoreView last = null;
+        while (true) {
+            WishlistStoreView cursor = last;
+            List<WishlistStoreView> batch = readOnlyTransaction.execute(status -> cursor == null
+                    ? wishlistRepository.findWishlistStoreViewBatch(userId, STREAM_BATCH_SIZE)
+                    : wishlistRepository.findWishlistStoreViewBatchAfter(
+                            userId, cursor.getWishedAt(), cursor.getWishlistId(), STREAM_BATCH_SIZE));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+
+            for (WishlistStoreView view : batch) {
+                consumer.accept(convertToWishlistResponseDto(view));
+                count++;
+            }
+            if (batch.size() < STREAM_BATCH_SIZE) {
+                break;
+            }
+            last = batch.get(batch.size() - 1);
+        }
+
+        log.info("찜 목록 스트리밍 조회 완료 - 사용자 ID: {}, 항목 수: {}", userId, count);
+        return count;
+    }
+
     /**
      * 특정 가게의 찜 여부 확인
      *
@@ -102,28 +168,14 @@ public class WishlistService {
     }
 
     /**
-     * Wishlist 엔티티를 WishlistResponseDto로 변환
+     * 찜 목록 + 가게 정보 프로젝션을 WishlistResponseDto로 변환
      */
-    private WishlistResponseDto convertToWishlistResponseDto(Wishlist wishlist) {
-        // Store 정보 조회 (동적 조회 - Task 10 패턴 활용)
-        Store store = storeRepository.findById(wishlist.getStoreId())
-                .orElse(null); // 가게가 삭제되었을 경우를 대비
-
+    private WishlistResponseDto convertToWishlistResponseDto(WishlistStoreView view) {
         WishlistResponseDto.StoreInfo storeInfo;
-        if (store != null) {
+        if (view.getStoreName() == null) {
+            // 가게 행 자체가 없는 경우
             storeInfo = WishlistResponseDto.StoreInfo.builder()
-                    .storeId(store.getId())
-                    .storeName(store.getName())
-                    .storeImageUrl(store.getStoreImageUrl()) // Store 엔티티의 getStoreImageUrl() 사용
-                    .minOrderAmount(store.getMinOrderAmount().intValue())
-                    .deliveryTip(store.getDeliveryFee().intValue())
-                    .storeStatus(store.getStatus().name())
-                    .description(store.getDescription())
-                    .build();
-        } else {
-            // 가게가 삭제된 경우
-            storeInfo = WishlistResponseDto.StoreInfo.builder()
-                    .storeId(wishlist.getStoreId())
+                    .storeId(view.getStoreId())
                     .storeName("삭제된 가게")
                     .storeImageUrl(null)
                     .minOrderAmount(0)
@@ -131,12 +183,24 @@ public class WishlistService {
                     .storeStatus("DELETED")
                     .description("더 이상 존재하지 않는 가게입니다.")
                     .build();
+        } else {
+            // 논리적으로 삭제된 가게도 실제 가게 정보를 보여주되 상태만 DELETED로 표시
+            boolean deleted = Boolean.TRUE.equals(view.getDeleted());
+            storeInfo = WishlistResponseDto.StoreInfo.builder()
+                    .storeId(view.getStoreId())
+                    .storeName(view.getStoreName())
+                    .storeImageUrl(view.getStoreImageUrl())
+                    .minOrderAmount(view.getMinOrderAmount().intValue())
+                    .deliveryTip(view.getDeliveryFee().intValue())
+                    .storeStatus(deleted ? "DELETED" : view.getStatus())
+                    .description(view.getDescription())
+                    .build();
         }
 
         return WishlistResponseDto.builder()
-                .wishlistId(wishlist.getId())
-                .wishedAt(wishlist.getCreatedAt())
+                .wishlistId(view.getWishlistId())
+                .wishedAt(view.getWishedAt())
                 .store(storeInfo)
                 .build();
     }
-} 
\ No newline at end of file
+}
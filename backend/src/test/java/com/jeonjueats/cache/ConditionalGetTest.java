@@ -0,0 +1,78 @@
+package com.jeonjueats.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 GET 판단 테스트
+ */
+class ConditionalGetTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 6, 23, 10, 30, 0, 123_456_000);
+
+    private final CatalogVersion version = new CatalogVersion(UPDATED_AT, 3);
+
+    @Test
+    void ETag가_일치하면_304로_응답한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + version.etag());
+
+        assertThat(ConditionalGet.notModifiedEtag(request, version.etag())).isEqualTo(version.etag());
+    }
+
+    @Test
+    void gzip_ETag로_요청하면_gzip_ETag로_응답한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.etag("gzip"));
+
+        assertThat(ConditionalGet.notModifiedEtag(request, version.etag(), version.etag("gzip")))
+                .isEqualTo(version.etag("gzip"));
+    }
+
+    @Test
+    void 메뉴가_삭제되어_항목_수가_바뀌면_ETag가_달라진다() {
+        CatalogVersion afterDelete = new CatalogVersion(UPDATED_AT, 2);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.etag());
+
+        assertThat(ConditionalGet.notModifiedEtag(request, afterDelete.etag())).isNull();
+    }
+
+    @Test
+    void 수정_시각은_DB_정밀도로_비교한다() {
+        CatalogVersion fromEntity = new CatalogVersion(UPDATED_AT.plusNanos(789), 3);
+
+        assertThat(fromEntity.etag()).isEqualTo(version.etag());
+    }
+
+    @Test
+    void 가장_최근_항목이_삭제된_뒤_If_Modified_Since로_요청하면_전체_응답한다() {
+        // 삭제된 행은 MAX(updated_at) 집계에서 빠지므로 남은 항목의 최근 수정 시각이 오히려 과거로 돌아감
+        CatalogVersion afterDelete = new CatalogVersion(UPDATED_AT.minusHours(1), 2);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, epochMillis(UPDATED_AT));
+
+        assertThat(ConditionalGet.isConditional(request)).isFalse();
+        assertThat(ConditionalGet.notModifiedEtag(request, afterDelete.etag())).isNull();
+    }
+
+    @Test
+    void 삭제_후_이전_ETag로_요청하면_전체_응답한다() {
+        CatalogVersion afterDelete = new CatalogVersion(UPDATED_AT.minusHours(1), 2);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.etag());
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, epochMillis(UPDATED_AT));
+
+        assertThat(ConditionalGet.notModifiedEtag(request, afterDelete.etag())).isNull();
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
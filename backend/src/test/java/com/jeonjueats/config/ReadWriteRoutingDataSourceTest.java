@@ -0,0 +1,170 @@
+package com.jeonjueats.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 읽기/쓰기 라우팅 테스트
+ * 실제 DB 대신 primary/복제본 데이터소스를 목으로 두고 어느 쪽에서 연결을 얻는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final AtomicReference<Long> currentUserId = new AtomicReference<>();
+    private ReadYourWritesTracker tracker;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(10));
+        routingDataSource = new ReadWriteRoutingDataSource(
+                primary,
+                List.of(new ReadWriteRoutingDataSource.Replica("replica-1", replicaDataSource)),
+                tracker,
+                currentUserId::get,
+                Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본을_사용한다() throws SQLException {
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary를_사용한다() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        beginTransaction(false);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaDataSource);
+    }
+
+    @Test
+    void 쓰기_직후_같은_사용자의_읽기는_primary를_사용한다() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        currentUserId.set(USER_ID);
+
+        beginTransaction(false);
+        routingDataSource.getConnection();
+
+        beginTransaction(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaDataSource);
+    }
+
+    @Test
+    void 다른_사용자의_읽기는_복제본을_사용한다() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        currentUserId.set(USER_ID);
+        beginTransaction(false);
+        routingDataSource.getConnection();
+
+        currentUserId.set(2L);
+        beginTransaction(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void 다른_서버에서_받은_쓰기_표식이_있으면_primary를_사용한다() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        currentUserId.set(USER_ID);
+        tracker.markWriteUntil(USER_ID, System.currentTimeMillis() + 10_000);
+
+        beginTransaction(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaDataSource);
+    }
+
+    @Test
+    void 복제본_연결_실패시_primary로_폴백한다() throws SQLException {
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicaDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_복제본을_제외한다() throws SQLException {
+        givenReplicaLag(30);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        routingDataSource.checkReplicas();
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void 복제_지연이_허용치_이내면_복제본을_사용한다() throws SQLException {
+        givenReplicaLag(1);
+
+        routingDataSource.checkReplicas();
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        verifyNoInteractions(primary);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void givenReplicaLag(long seconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(seconds);
+        when(resultSet.wasNull()).thenReturn(false);
+    }
+}
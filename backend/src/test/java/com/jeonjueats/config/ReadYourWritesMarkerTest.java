@@ -0,0 +1,50 @@
+package com.jeonjueats.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 표식 서명/검증 테스트
+ */
+class ReadYourWritesMarkerTest {
+
+    private static final String SECRET = "test-secret-key-for-read-your-writes-marker-signature";
+    private static final long USER_ID = 1L;
+    private static final long DEADLINE = 1_760_000_000_000L;
+
+    private final ReadYourWritesMarker marker = new ReadYourWritesMarker(SECRET, Duration.ofSeconds(10));
+
+    @Test
+    void 서명한_표식은_같은_사용자에_대해_마감_시각을_돌려준다() {
+        String issued = marker.issue(USER_ID, DEADLINE);
+
+        assertThat(marker.verify(issued, USER_ID)).isEqualTo(DEADLINE);
+    }
+
+    @Test
+    void 마감_시각을_바꾼_표식은_거부한다() {
+        String issued = marker.issue(USER_ID, DEADLINE);
+        String tampered = issued.replace("." + DEADLINE + ".", "." + (DEADLINE + 60_000) + ".");
+
+        assertThat(marker.verify(tampered, USER_ID)).isEqualTo(-1);
+    }
+
+    @Test
+    void 다른_사용자의_표식은_거부한다() {
+        String issued = marker.issue(USER_ID, DEADLINE);
+
+        assertThat(marker.verify(issued, 2L)).isEqualTo(-1);
+    }
+
+    @Test
+    void 다른_키로_서명한_표식은_거부한다() {
+        String issued = new ReadYourWritesMarker("another-secret-key-for-read-your-writes-marker", Duration.ofSeconds(10))
+                .issue(USER_ID, DEADLINE);
+
+        assertThat(marker.verify(issued, USER_ID)).isEqualTo(-1);
+        assertThat(marker.verify("garbage", USER_ID)).isEqualTo(-1);
+    }
+}
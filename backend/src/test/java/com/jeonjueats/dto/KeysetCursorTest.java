@@ -0,0 +1,27 @@
+package com.jeonjueats.dto;
+
+import com.jeonjueats.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_해석한다() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 6, 23, 10, 30), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 잘못된_커서는_InvalidCursorException을_던진다() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("MjAyNQ")) // "2025" (구분자 없음)
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.jeonjueats.entity.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시간 순서 ID 생성기 테스트
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long NODE_ID = 7L;
+
+    @BeforeEach
+    void setUp() {
+        SnowflakeIdGenerator.configure(NODE_ID);
+    }
+
+    @Test
+    void 연속_발급한_ID는_중복_없이_증가한다() {
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 50_000; i++) {
+            long id = SnowflakeIdGenerator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            ids.add(id);
+        }
+        assertThat(ids).hasSize(50_000);
+    }
+
+    @Test
+    void ID에_노드_ID가_포함되고_JavaScript_안전_정수_범위를_넘지_않는다() {
+        long id = SnowflakeIdGenerator.nextId();
+
+        long nodeId = (id >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID;
+        assertThat(nodeId).isEqualTo(NODE_ID);
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    void 범위를_벗어난_노드_ID는_거부한다() {
+        assertThatThrownBy(() -> SnowflakeIdGenerator.configure(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.jeonjueats.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifOrientationTest {
+
+    @Test
+    void EXIF_방향_태그를_읽는다() throws IOException {
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(jpegHeader(6, false)))).isEqualTo(6);
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(jpegHeader(8, true)))).isEqualTo(8);
+    }
+
+    @Test
+    void EXIF가_없으면_정방향이다() throws IOException {
+        byte[] noExif = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDA, 0x00, 0x02};
+
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(noExif))).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(new byte[]{0x01, 0x02})))
+                .isEqualTo(ExifOrientation.NORMAL);
+    }
+
+    @Test
+    void 시계_방향_90도_회전하면_가로세로가_바뀐다() {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000); // 왼쪽 위
+
+        BufferedImage rotated = ExifOrientation.apply(source, 6);
+
+        assertThat(rotated.getWidth()).isEqualTo(2);
+        assertThat(rotated.getHeight()).isEqualTo(4);
+        assertThat(rotated.getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000); // 오른쪽 위로 이동
+    }
+
+    /**
+     * SOI + APP1(EXIF, IFD0에 방향 태그 하나) + SOS
+     */
+    private static byte[] jpegHeader(int orientation, boolean littleEndian) {
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        if (littleEndian) {
+            tiff.writeBytes(new byte[]{'I', 'I', 0x2A, 0x00, 0x08, 0x00, 0x00, 0x00, 0x01, 0x00,
+                    0x12, 0x01, 0x03, 0x00, 0x01, 0x00, 0x00, 0x00, (byte) orientation, 0x00, 0x00, 0x00,
+                    0x00, 0x00, 0x00, 0x00});
+        } else {
+            tiff.writeBytes(new byte[]{'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08, 0x00, 0x01,
+                    0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                    0x00, 0x00, 0x00, 0x00});
+        }
+        byte[] exif = "Exif\0\0".getBytes();
+        int length = 2 + exif.length + tiff.size();
+
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1,
+                (byte) (length >> 8), (byte) length});
+        jpeg.writeBytes(exif);
+        jpeg.writeBytes(tiff.toByteArray());
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xDA, 0x00, 0x02});
+        return jpeg.toByteArray();
+    }
+}
@@ -0,0 +1,189 @@
+package com.jeonjueats.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 파일 응답기 테스트 (Range, 조건부 요청, 축소본 대체)
+ */
+class ImageFileServerTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+
+    @TempDir
+    Path uploadDirectory;
+
+    private ImageStorage imageStorage;
+    private ImageMetadataCache imageMetadataCache;
+    private ImageFileServer imageFileServer;
+    private String imagePath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageStorage = new ImageStorage();
+        ReflectionTestUtils.setField(imageStorage, "uploadDirectory", uploadDirectory.toString());
+
+        imageMetadataCache = new ImageMetadataCache(imageStorage);
+        ReflectionTestUtils.setField(imageMetadataCache, "maxSize", 100);
+        ReflectionTestUtils.setField(imageMetadataCache, "revalidateInterval", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(imageMetadataCache, "negativeTtl", Duration.ofSeconds(60));
+        imageMetadataCache.init();
+
+        ImageDerivativeGenerator imageDerivativeGenerator = new ImageDerivativeGenerator(new SimpleMeterRegistry(), imageMetadataCache);
+        ReflectionTestUtils.setField(imageDerivativeGenerator, "widths", new int[]{160, 480});
+        ReflectionTestUtils.setField(imageDerivativeGenerator, "workerThreads", 1);
+        ReflectionTestUtils.setField(imageDerivativeGenerator, "queueCapacity", 1);
+        imageDerivativeGenerator.init();
+
+        imageFileServer = new ImageFileServer(imageMetadataCache, imageDerivativeGenerator);
+        imagePath = imageStorage.store(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)), ".png")
+                .relativePath();
+    }
+
+    @Test
+    void 내용_주소_방식_이미지는_immutable로_응답한다() throws Exception {
+        MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", "/"), null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + digest() + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    void ETag가_일치하면_본문_없이_304로_응답한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + digest() + "\"");
+
+        MockHttpServletResponse response = serve(request, null);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 바이트_범위_요청은_206으로_일부만_응답한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = serve(request, null);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+    }
+
+    @Test
+    void 파일_크기를_벗어난_범위는_416으로_응답한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        MockHttpServletResponse response = serve(request, null);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void 범위_파싱() {
+        assertThat(ImageFileServer.parseRange("bytes=-3", 10)).containsExactly(7, 9);
+        assertThat(ImageFileServer.parseRange("bytes=5-100", 10)).containsExactly(5, 9);
+        assertThat(ImageFileServer.parseRange("bytes=0-1,4-5", 10)).isNull();
+        assertThat(ImageFileServer.parseRange("bytes=5-2", 10)).isNull();
+    }
+
+    @Test
+    void 축소본이_없으면_원본을_짧은_캐시로_응답하고_생성되면_축소본으로_응답한다() throws Exception {
+        MockHttpServletResponse pending = serve(new MockHttpServletRequest("GET", "/"), 100);
+
+        assertThat(pending.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(pending.getHeader(HttpHeaders.CACHE_CONTROL)).doesNotContain("immutable");
+
+        Path variantFile = Files.writeString(uploadDirectory.resolve("images")
+                .resolve(ImageDerivativeGenerator.variantFilename(imagePath, 160)), "small");
+        imageMetadataCache.evict(variantFile); // 생성기가 축소본을 쓴 뒤 하는 것처럼
+        MockHttpServletResponse variant = serve(new MockHttpServletRequest("GET", "/"), 100);
+
+        assertThat(variant.getContentAsString()).isEqualTo("small");
+        assertThat(variant.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    void 없는_축소본은_잠시_기억하여_요청마다_파일_시스템을_조회하지_않는다() throws Exception {
+        serve(new MockHttpServletRequest("GET", "/"), 100);
+        Files.writeString(uploadDirectory.resolve("images")
+                .resolve(ImageDerivativeGenerator.variantFilename(imagePath, 160)), "small");
+
+        MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", "/"), 100);
+
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT); // 기억된 결과 사용 (파일 조회 없음)
+    }
+
+    @Test
+    void 샤딩_이전의_평면_경로_URL도_응답한다() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageFileServer.serve(digest() + ".png", null, new MockHttpServletRequest("GET", "/"), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void 이미지_디렉토리_밖의_경로는_404로_응답한다() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageFileServer.serve("../secret.png", null, new MockHttpServletRequest("GET", "/"), response);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void sendfile에는_정규화된_절대_경로를_넘긴다() throws Exception {
+        String largePath = storeLargeImage();
+        MockHttpServletRequest request = sendfileRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        imageFileServer.serve(largePath, null, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(request.getAttribute(SENDFILE_FILENAME_ATTR))
+                .isEqualTo(imageStorage.imageDirectory().resolve(largePath).toRealPath().toString());
+    }
+
+    private String storeLargeImage() throws Exception {
+        byte[] content = new byte[64 * 1024];
+        content[0] = 1;
+        return imageStorage.store(new ByteArrayInputStream(content), ".png").relativePath();
+    }
+
+    private static MockHttpServletRequest sendfileRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request, Integer width) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageFileServer.serve(imagePath, width, request, response);
+        return response;
+    }
+
+    private String digest() {
+        return imagePath.substring(imagePath.lastIndexOf('/') + 1, imagePath.lastIndexOf('.'));
+    }
+}
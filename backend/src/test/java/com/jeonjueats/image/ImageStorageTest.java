@@ -0,0 +1,88 @@
+package com.jeonjueats.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내용 주소 방식 이미지 저장소 테스트
+ */
+class ImageStorageTest {
+
+    @TempDir
+    Path uploadDirectory;
+
+    private final ImageStorage imageStorage = new ImageStorage();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageStorage, "uploadDirectory", uploadDirectory.toString());
+    }
+
+    @Test
+    void 파일명은_내용의_SHA256_다이제스트다() throws Exception {
+        ImageStorage.StoredImage stored = imageStorage.store(content("abc"), ".JPEG");
+
+        assertThat(stored.filename())
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad.jpg");
+        assertThat(stored.relativePath())
+                .isEqualTo("ba/78/ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad.jpg");
+        assertThat(stored.created()).isTrue();
+        assertThat(stored.size()).isEqualTo(3);
+        assertThat(Files.readString(stored.path())).isEqualTo("abc");
+        assertThat(ImageStorage.isContentAddressed(stored.filename())).isTrue();
+    }
+
+    @Test
+    void 같은_내용을_다시_올리면_기존_파일을_사용한다() throws Exception {
+        ImageStorage.StoredImage first = imageStorage.store(content("same photo"), ".png");
+        ImageStorage.StoredImage second = imageStorage.store(content("same photo"), ".png");
+
+        assertThat(second.filename()).isEqualTo(first.filename());
+        assertThat(second.created()).isFalse();
+        try (var files = Files.walk(uploadDirectory.resolve("images"))) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1); // 임시 파일도 남지 않음
+        }
+    }
+
+    @Test
+    void 이동_대상이_이미_있으면_덮어쓰지_않는다() throws Exception {
+        Path source = Files.writeString(uploadDirectory.resolve("source.jpg"), "new");
+        Path target = Files.writeString(uploadDirectory.resolve("target.jpg"), "existing");
+
+        assertThatThrownBy(() -> ImageStorage.moveWithoutReplace(source, target))
+                .isInstanceOf(FileAlreadyExistsException.class);
+        assertThat(Files.readString(target)).isEqualTo("existing");
+        assertThat(source).exists();
+    }
+
+    @Test
+    void 축소본은_원본과_같은_샤딩_디렉토리에_놓인다() {
+        String digest = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+        assertThat(ImageStorage.shardedPath(digest + "_w480.jpg")).isEqualTo("ba/78/" + digest + "_w480.jpg");
+        assertThat(ImageStorage.shardedPath("chicken1_w480.jpg"))
+                .startsWith(ImageStorage.shardedPath("chicken1.jpg").substring(0, 6))
+                .matches("[0-9a-f]{2}/[0-9a-f]{2}/chicken1_w480\\.jpg");
+    }
+
+    @Test
+    void 기존_방식_파일명은_내용_주소_방식이_아니다() {
+        assertThat(ImageStorage.isContentAddressed("20250615102858_aa9fb485.jpg")).isFalse();
+        assertThat(ImageStorage.isContentAddressed("chicken1.jpg")).isFalse();
+    }
+
+    private static ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
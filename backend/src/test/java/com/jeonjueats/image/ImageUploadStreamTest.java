@@ -0,0 +1,64 @@
+package com.jeonjueats.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업로드 이미지 검증 스트림 테스트
+ */
+class ImageUploadStreamTest {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Test
+    void 매직_바이트로_형식을_판별하고_내용은_그대로_전달한다() throws Exception {
+        byte[] png = image(PNG_SIGNATURE, 100);
+
+        ImageUploadStream stream = ImageUploadStream.open(new ByteArrayInputStream(png), 100);
+
+        assertThat(stream.format()).isEqualTo(ImageUploadStream.ImageFormat.PNG);
+        assertThat(stream.readAllBytes()).isEqualTo(png);
+        assertThat(stream.size()).isEqualTo(100);
+    }
+
+    @Test
+    void JPEG_매직_바이트를_판별한다() throws Exception {
+        byte[] jpeg = image(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}, 10);
+
+        assertThat(ImageUploadStream.open(new ByteArrayInputStream(jpeg), 100).format())
+                .isEqualTo(ImageUploadStream.ImageFormat.JPEG);
+    }
+
+    @Test
+    void 허용하지_않는_형식은_본문을_읽기_전에_거부한다() {
+        byte[] gif = "GIF89a...".getBytes();
+
+        assertThatThrownBy(() -> ImageUploadStream.open(new ByteArrayInputStream(gif), 100))
+                .hasMessage("INVALID_FILE_FORMAT");
+    }
+
+    @Test
+    void 최대_크기를_넘으면_읽는_도중_중단한다() throws Exception {
+        ImageUploadStream stream = ImageUploadStream.open(new ByteArrayInputStream(image(PNG_SIGNATURE, 101)), 100);
+
+        assertThatThrownBy(() -> stream.transferTo(OutputStream.nullOutputStream()))
+                .hasMessage("FILE_SIZE_EXCEEDED");
+    }
+
+    @Test
+    void 빈_본문은_거부한다() {
+        assertThatThrownBy(() -> ImageUploadStream.open(new ByteArrayInputStream(new byte[0]), 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] image(byte[] signature, int length) {
+        byte[] content = new byte[length];
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jeonjueats.service;
+
+import com.jeonjueats.dto.CartResponseDto;
+import com.jeonjueats.entity.Cart;
+import com.jeonjueats.entity.CartItem;
+import com.jeonjueats.entity.Menu;
+import com.jeonjueats.entity.Store;
+import com.jeonjueats.exception.MenuNotFoundException;
+import com.jeonjueats.repository.CartItemRepository;
+import com.jeonjueats.repository.CartRepository;
+import com.jeonjueats.repository.MenuRepository;
+import com.jeonjueats.repository.StoreRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 장바구니 조회 경로 테스트
+ * 각 Repository 호출은 SQL 문 1회에 대응하므로, 호출 횟수로 조회 쿼리 수를 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CartServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long CART_ID = 10L;
+    private static final Long STORE_ID = 100L;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @InjectMocks
+    private CartService cartService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void getCart_아이템_수와_무관하게_쿼리_수가_고정된다(int itemCount) {
+        givenCartWithItems(itemCount);
+
+        CartResponseDto response = cartService.getCart(USER_ID);
+
+        assertThat(response.getItems()).hasSize(itemCount);
+        assertThat(response.getTotalQuantity()).isEqualTo(itemCount * 2);
+        assertThat(response.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(1000L * 2 * itemCount));
+
+        // 장바구니 1 + 아이템 1 + 메뉴 IN 1 + 가게 1 = 4개의 SQL 문
+        verify(cartRepository, times(1)).findByUserId(USER_ID);
+        verify(cartItemRepository, times(1)).findByCartIdOrderByCreatedAtDesc(CART_ID);
+        verify(menuRepository, times(1)).findByIdInAndIsDeletedFalse(anyCollection());
+        verify(storeRepository, times(1)).findById(STORE_ID);
+        verify(menuRepository, never()).findByIdAndIsDeletedFalse(anyLong());
+        verifyNoMoreInteractions(cartRepository, cartItemRepository, menuRepository, storeRepository);
+    }
+
+    @Test
+    void getCart_삭제된_메뉴가_있으면_예외가_발생한다() {
+        givenCartWithItems(2);
+        when(menuRepository.findByIdInAndIsDeletedFalse(anyCollection()))
+                .thenReturn(List.of(menu(1L)));
+
+        assertThatThrownBy(() -> cartService.getCart(USER_ID))
+                .isInstanceOf(MenuNotFoundException.class);
+    }
+
+    private void givenCartWithItems(int itemCount) {
+        Cart cart = new Cart(USER_ID);
+        cart.setId(CART_ID);
+        cart.setStoreId(STORE_ID);
+
+        List<CartItem> items = new ArrayList<>();
+        List<Menu> menus = new ArrayList<>();
+        for (long menuId = 1; menuId <= itemCount; menuId++) {
+            CartItem item = new CartItem(CART_ID, menuId, 2);
+            item.setId(menuId);
+            items.add(item);
+            menus.add(menu(menuId));
+        }
+
+        Store store = new Store(2L, 1L, "테스트 가게", "55000", "전주시 완산구", "063-000-0000");
+        store.setId(STORE_ID);
+        store.setDeliveryFee(new BigDecimal("3000"));
+
+        when(cartRepository.findByUserId(USER_ID)).thenReturn(Optional.of(cart));
+        when(cartItemRepository.findByCartIdOrderByCreatedAtDesc(CART_ID)).thenReturn(items);
+        lenient().when(menuRepository.findByIdInAndIsDeletedFalse(anyCollection())).thenReturn(menus);
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
+    }
+
+    private Menu menu(Long menuId) {
+        Menu menu = new Menu(STORE_ID, "메뉴" + menuId, "설명", new BigDecimal("1000"));
+        menu.setId(menuId);
+        return menu;
+    }
+}